@@ -0,0 +1,116 @@
+package io.cucumber.core.runner;
+
+import gherkin.events.PickleEvent;
+import gherkin.pickles.Pickle;
+import gherkin.pickles.PickleLocation;
+import gherkin.pickles.PickleStep;
+import io.cucumber.core.backend.ParameterInfo;
+import io.cucumber.core.backend.StepDefinition;
+import io.cucumber.core.event.TestStepFinished;
+import io.cucumber.core.event.TestStepStarted;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.runtime.TimeServiceEventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Measures the time and allocations of running a single step without
+ * arguments. Run with the GC profiler to see the allocations per step
+ * ({@code gc.alloc.rate.norm}):
+ * <pre>
+ * mvn -pl core -Pbenchmark test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=io.cucumber.core.runner.RunStepBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RunStepBenchmark {
+
+    @Param({"false", "true"})
+    public boolean listening;
+
+    private final EventBus bus = TimeServiceEventBus.system();
+    private TestCase testCase;
+    private Scenario scenario;
+    private PickleStepTestStep step;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        PickleStep pickleStep = new PickleStep("a step", emptyList(), singletonList(new PickleLocation(2, 5)));
+        Pickle pickle = new Pickle("a scenario", "en", singletonList(pickleStep), emptyList(), singletonList(new PickleLocation(1, 1)));
+        PickleEvent pickleEvent = new PickleEvent("file:path/to.feature", pickle);
+        PickleStepDefinitionMatch match = new PickleStepDefinitionMatch(emptyList(), new NoOpStepDefinition(), "path/to.feature", pickleStep);
+        step = new PickleStepTestStep(pickleEvent.uri, pickleStep, match);
+        testCase = new TestCase(singletonList(step), emptyList(), emptyList(), pickleEvent, false);
+        scenario = new Scenario(bus, testCase, new AttachmentStore());
+
+        if (listening) {
+            bus.registerHandlerFor(TestStepStarted.class, blackhole::consume);
+            bus.registerHandlerFor(TestStepFinished.class, blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public boolean runStep() {
+        return step.run(testCase, bus, scenario, false);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(RunStepBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()
+        ).run();
+    }
+
+    private static final class NoOpStepDefinition implements StepDefinition {
+
+        @Override
+        public void execute(Object[] args) {
+
+        }
+
+        @Override
+        public boolean isDefinedAt(StackTraceElement stackTraceElement) {
+            return false;
+        }
+
+        @Override
+        public List<ParameterInfo> parameterInfos() {
+            return emptyList();
+        }
+
+        @Override
+        public String getLocation(boolean detail) {
+            return "RunStepBenchmark.step()";
+        }
+
+        @Override
+        public String getPattern() {
+            return "a step";
+        }
+    }
+}
@@ -3,6 +3,8 @@ package io.cucumber.core.api;
 import io.cucumber.core.event.Status;
 import org.apiguardian.api.API;
 
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Collection;
 
 /**
@@ -58,6 +60,30 @@ public interface Scenario {
      */
     void embed(byte[] data, String mimeType, String name);
 
+    /**
+     * Like {@link Scenario#embed(byte[], String, String)}, but embeds the
+     * contents of a file without reading it into memory. The file may be
+     * changed or removed afterwards.
+     *
+     * @param file     what to embed, for example a video.
+     * @param mimeType what is the data?
+     * @param name     embedding name
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    void embed(Path file, String mimeType, String name);
+
+    /**
+     * Like {@link Scenario#embed(byte[], String, String)}, but embeds the
+     * data read from a stream without keeping it in memory. The stream is
+     * read to its end but not closed.
+     *
+     * @param data     what to embed, for example a heap dump.
+     * @param mimeType what is the data?
+     * @param name     embedding name
+     */
+    @API(status = API.Status.EXPERIMENTAL)
+    void embed(InputStream data, String mimeType, String name);
+
     /**
      * Outputs some text into the report.
      *
@@ -0,0 +1,36 @@
+package io.cucumber.core.event;
+
+import org.apiguardian.api.API;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Data embedded into the report by a scenario.
+ * <p>
+ * The data is either held in memory or stored in a file for the duration of
+ * the test run. Plugins that read the data from {@link #getInputStream()} or
+ * copy the file from {@link #getPath()} avoid loading large attachments into
+ * memory.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public interface Attachment {
+
+    /**
+     * @return the size of the data in bytes
+     */
+    long getSize();
+
+    /**
+     * @return a new stream to read the data from
+     * @throws IOException when the data can not be read
+     */
+    InputStream getInputStream() throws IOException;
+
+    /**
+     * @return the file that holds the data, or null when the data is held in
+     * memory
+     */
+    Path getPath();
+}
@@ -0,0 +1,33 @@
+package io.cucumber.core.event;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+final class ByteArrayAttachment implements Attachment {
+
+    private final byte[] data;
+
+    ByteArrayAttachment(byte[] data) {
+        this.data = data;
+    }
+
+    byte[] getData() {
+        return data;
+    }
+
+    @Override
+    public long getSize() {
+        return data == null ? 0 : data.length;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(data == null ? new byte[0] : data);
+    }
+
+    @Override
+    public Path getPath() {
+        return null;
+    }
+}
@@ -1,32 +1,68 @@
 package io.cucumber.core.event;
 
+import io.cucumber.core.exception.CucumberException;
 import org.apiguardian.api.API;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.Objects;
 
 @API(status = API.Status.STABLE)
 public final class EmbedEvent extends TestCaseEvent {
-    private final byte[] data;
+    private final Attachment attachment;
     private final String mimeType;
     public final String name;
 
     public EmbedEvent(Instant timeInstant, TestCase testCase, byte[] data, String mimeType) {
         super(timeInstant, testCase);
-        this.data = Objects.requireNonNull(data);
+        this.attachment = new ByteArrayAttachment(Objects.requireNonNull(data));
         this.mimeType = Objects.requireNonNull(mimeType);
         this.name = null;
     }
 
     public EmbedEvent(Instant timeInstant, TestCase testCase, byte[] data, String mimeType, String name) {
         super(timeInstant, testCase);
-        this.data = data;
+        this.attachment = new ByteArrayAttachment(data);
         this.mimeType = mimeType;
         this.name = name;
     }
 
+    @API(status = API.Status.EXPERIMENTAL)
+    public EmbedEvent(Instant timeInstant, TestCase testCase, Attachment attachment, String mimeType, String name) {
+        super(timeInstant, testCase);
+        this.attachment = Objects.requireNonNull(attachment);
+        this.mimeType = mimeType;
+        this.name = name;
+    }
+
+    /**
+     * Returns the embedded data. Data that is stored in a file is read into
+     * memory, use {@link #getAttachment()} to avoid this.
+     *
+     * @return the embedded data
+     */
     public byte[] getData() {
-        return data;
+        if (attachment instanceof ByteArrayAttachment) {
+            return ((ByteArrayAttachment) attachment).getData();
+        }
+        try (InputStream in = attachment.getInputStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(attachment.getSize(), Integer.MAX_VALUE));
+            byte[] buffer = new byte[16 * 1024];
+            int len;
+            while ((len = in.read(buffer)) != -1) {
+                out.write(buffer, 0, len);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new CucumberException("Failed to read embedded data", e);
+        }
+    }
+
+    @API(status = API.Status.EXPERIMENTAL)
+    public Attachment getAttachment() {
+        return attachment;
     }
 
     public String getMimeType() {
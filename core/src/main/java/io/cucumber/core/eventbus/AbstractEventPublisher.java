@@ -5,45 +5,58 @@ import io.cucumber.core.event.EventHandler;
 import io.cucumber.core.event.EventPublisher;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Publishes events to the handlers registered for their type or any of its
+ * super types.
+ * <p>
+ * The handlers of each event class are resolved once into an array. Handlers
+ * can be (un)registered while events are being sent. Events that are being
+ * sent at that moment are delivered to the handlers as they were before.
+ */
 public abstract class AbstractEventPublisher implements EventPublisher {
-    protected final Map<Class<? extends Event>, List<EventHandler>> handlers = new HashMap<>();
+    private static final EventHandler[] NO_HANDLERS = new EventHandler[0];
+
+    // Guarded by this
+    private final Map<Class<? extends Event>, EventHandler[]> handlers = new LinkedHashMap<>();
+    // Copy on write, cleared when handlers change
+    private volatile Map<Class<?>, EventHandler[]> handlersByEventClass = new IdentityHashMap<>();
 
     @Override
-    public final <T extends Event> void registerHandlerFor(Class<T> eventType, EventHandler<T> handler) {
-        if (handlers.containsKey(eventType)) {
-            handlers.get(eventType).add(handler);
-        } else {
-            List<EventHandler> list = new ArrayList<EventHandler>();
-            list.add(handler);
-            handlers.put(eventType, list);
-        }
+    public final synchronized <T extends Event> void registerHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+        EventHandler[] registered = handlers.getOrDefault(eventType, NO_HANDLERS);
+        EventHandler[] updated = Arrays.copyOf(registered, registered.length + 1);
+        updated[registered.length] = handler;
+        handlers.put(eventType, updated);
+        handlersByEventClass = new IdentityHashMap<>();
     }
 
     @Override
-    public final <T extends Event> void removeHandlerFor(Class<T> eventType, EventHandler<T> handler) {
-        if (handlers.containsKey(eventType)) {
-            handlers.get(eventType).remove(handler);
+    public final synchronized <T extends Event> void removeHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+        EventHandler[] registered = handlers.get(eventType);
+        if (registered == null) {
+            return;
+        }
+        List<EventHandler> updated = new ArrayList<>(Arrays.asList(registered));
+        if (updated.remove(handler)) {
+            handlers.put(eventType, updated.toArray(NO_HANDLERS));
+            handlersByEventClass = new IdentityHashMap<>();
         }
     }
 
+    public boolean hasHandlersFor(Class<? extends Event> eventType) {
+        return handlersFor(eventType).length > 0;
+    }
 
     protected void send(Event event) {
-        if (handlers.containsKey(Event.class)) {
-            for (EventHandler handler : handlers.get(Event.class)) {
-                //noinspection unchecked: protected by registerHandlerFor
-                handler.receive(event);
-            }
-        }
-
-        if (handlers.containsKey(event.getClass())) {
-            for (EventHandler handler : handlers.get(event.getClass())) {
-                //noinspection unchecked: protected by registerHandlerFor
-                handler.receive(event);
-            }
+        for (EventHandler handler : handlersFor(event.getClass())) {
+            //noinspection unchecked: protected by registerHandlerFor
+            handler.receive(event);
         }
     }
 
@@ -52,4 +65,37 @@ public abstract class AbstractEventPublisher implements EventPublisher {
             send(event);
         }
     }
+
+    private EventHandler[] handlersFor(Class<?> eventClass) {
+        EventHandler[] resolved = handlersByEventClass.get(eventClass);
+        if (resolved != null) {
+            return resolved;
+        }
+        return resolveHandlersFor(eventClass);
+    }
+
+    private synchronized EventHandler[] resolveHandlersFor(Class<?> eventClass) {
+        EventHandler[] resolved = handlersByEventClass.get(eventClass);
+        if (resolved != null) {
+            return resolved;
+        }
+
+        // Handlers for all events first, handlers for the class itself last.
+        List<EventHandler> handlers = new ArrayList<>(Arrays.asList(this.handlers.getOrDefault(Event.class, NO_HANDLERS)));
+        for (Map.Entry<Class<? extends Event>, EventHandler[]> entry : this.handlers.entrySet()) {
+            Class<? extends Event> eventType = entry.getKey();
+            if (eventType != Event.class && eventType != eventClass && eventType.isAssignableFrom(eventClass)) {
+                handlers.addAll(Arrays.asList(entry.getValue()));
+            }
+        }
+        if (eventClass != Event.class) {
+            handlers.addAll(Arrays.asList(this.handlers.getOrDefault(eventClass, NO_HANDLERS)));
+        }
+
+        resolved = handlers.toArray(NO_HANDLERS);
+        Map<Class<?>, EventHandler[]> updated = new IdentityHashMap<>(handlersByEventClass);
+        updated.put(eventClass, resolved);
+        handlersByEventClass = updated;
+        return resolved;
+    }
 }
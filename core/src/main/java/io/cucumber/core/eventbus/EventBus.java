@@ -9,6 +9,32 @@ public interface EventBus extends EventPublisher {
 
     Instant getInstant();
 
+    /**
+     * Returns the current value of a monotonic time source, in nanoseconds.
+     * Unlike {@link #getInstant()} the time never goes backwards. It is only
+     * meaningful to compare it to other values returned by this method.
+     *
+     * @return the current time in nanoseconds
+     */
+    long getTime();
+
+    /**
+     * Returns the instant corresponding to a time returned by {@link #getTime()}.
+     *
+     * @param time the time in nanoseconds
+     * @return the instant of {@code time}
+     */
+    Instant getInstant(long time);
+
+    /**
+     * Returns true if events of the given type would be received by a
+     * handler. Can be used to avoid creating events nobody receives.
+     *
+     * @param eventType the type of event
+     * @return true iff there are handlers for {@code eventType}
+     */
+    boolean hasHandlersFor(Class<? extends Event> eventType);
+
     void send(Event event);
 
     void sendAll(Iterable<Event> queue);
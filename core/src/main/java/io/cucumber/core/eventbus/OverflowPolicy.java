@@ -0,0 +1,16 @@
+package io.cucumber.core.eventbus;
+
+/**
+ * What to do with an event when the event queue of a plugin is full.
+ */
+public enum OverflowPolicy {
+    /**
+     * Wait until the plugin has taken an event from its queue.
+     */
+    BLOCK,
+    /**
+     * Discard the event and warn that events were lost. Only step, write and
+     * embed events are discarded, the plugin waits for all other events.
+     */
+    DROP
+}
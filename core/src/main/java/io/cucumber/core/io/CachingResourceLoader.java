@@ -0,0 +1,43 @@
+package io.cucumber.core.io;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Loads the resources for each path and suffix only once.
+ * <p>
+ * Each runner creates its own backends. With this loader the backends of
+ * all threads share one scan of the glue path, so it is scanned only once
+ * per run. The runners still load and bind the glue classes themselves.
+ * <p>
+ * Thread safe.
+ */
+public final class CachingResourceLoader implements ResourceLoader {
+
+    private final ResourceLoader delegate;
+    private final Map<URI, Map<String, List<Resource>>> resourcesByPathAndSuffix = new ConcurrentHashMap<>();
+
+    public CachingResourceLoader(ResourceLoader delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Iterable<Resource> resources(URI path, String suffix) {
+        return resourcesByPathAndSuffix
+            .computeIfAbsent(path, p -> new ConcurrentHashMap<>())
+            .computeIfAbsent(suffix, s -> load(path, s));
+    }
+
+    private List<Resource> load(URI path, String suffix) {
+        List<Resource> resources = new ArrayList<>();
+        for (Resource resource : delegate.resources(path, suffix)) {
+            resources.add(resource);
+        }
+        return unmodifiableList(resources);
+    }
+}
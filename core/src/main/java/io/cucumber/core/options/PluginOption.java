@@ -18,6 +18,7 @@ import io.cucumber.core.plugin.ProgressFormatter;
 import io.cucumber.core.plugin.RerunFormatter;
 import io.cucumber.core.plugin.TestNGFormatter;
 import io.cucumber.core.plugin.TimelineFormatter;
+import io.cucumber.core.plugin.TimingFormatter;
 import io.cucumber.core.plugin.UnusedStepsSummaryPrinter;
 import io.cucumber.core.plugin.UsageFormatter;
 
@@ -44,6 +45,7 @@ public class PluginOption implements Options.Plugin {
         put("null_summary", NullSummaryPrinter.class);
         put("unused", UnusedStepsSummaryPrinter.class);
         put("timeline", TimelineFormatter.class);
+        put("timing", TimingFormatter.class);
     }};
 
     // Refuse plugins known to implement the old API
@@ -1,6 +1,7 @@
 package io.cucumber.core.options;
 
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.eventbus.OverflowPolicy;
 import io.cucumber.core.order.PickleOrder;
 import io.cucumber.core.order.StandardPickleOrders;
 import io.cucumber.core.snippets.SnippetType;
@@ -39,6 +40,12 @@ public final class RuntimeOptions implements
     private int threads = 1;
     private PickleOrder pickleOrder = StandardPickleOrders.lexicalUriOrder();
     private int count = 0;
+    private boolean stepIndex = true;
+    private boolean workStealing = false;
+    private boolean virtualThreads = false;
+    private int failFastThreshold = 0;
+    private OverflowPolicy pluginOverflowPolicy = OverflowPolicy.BLOCK;
+    private long eventBufferBudget = 64 * 1024 * 1024;
 
     private final List<Plugin> formatters = new ArrayList<>();
     private final List<Plugin> summaryPrinters = new ArrayList<>();
@@ -170,10 +177,40 @@ public final class RuntimeOptions implements
         return objectFactoryClass;
     }
 
+    @Override
+    public boolean isStepIndex() {
+        return stepIndex;
+    }
+
     public int getThreads() {
         return threads;
     }
 
+    public boolean isWorkStealing() {
+        return workStealing;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public boolean isFailFast() {
+        return failFastThreshold > 0;
+    }
+
+    public int getFailFastThreshold() {
+        return failFastThreshold;
+    }
+
+    public OverflowPolicy getPluginOverflowPolicy() {
+        return pluginOverflowPolicy;
+    }
+
+    @Override
+    public long getEventBufferBudget() {
+        return eventBufferBudget;
+    }
+
     public PickleOrder getPickleOrder() {
         return pickleOrder;
     }
@@ -194,10 +231,34 @@ public final class RuntimeOptions implements
         this.strict = strict;
     }
 
+    void setStepIndex(boolean stepIndex) {
+        this.stepIndex = stepIndex;
+    }
+
     void setThreads(int threads) {
         this.threads = threads;
     }
 
+    void setWorkStealing(boolean workStealing) {
+        this.workStealing = workStealing;
+    }
+
+    void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    void setFailFastThreshold(int failFastThreshold) {
+        this.failFastThreshold = failFastThreshold;
+    }
+
+    void setPluginOverflowPolicy(OverflowPolicy pluginOverflowPolicy) {
+        this.pluginOverflowPolicy = pluginOverflowPolicy;
+    }
+
+    void setEventBufferBudget(long eventBufferBudget) {
+        this.eventBufferBudget = eventBufferBudget;
+    }
+
     void setWip(boolean wip) {
         this.wip = wip;
     }
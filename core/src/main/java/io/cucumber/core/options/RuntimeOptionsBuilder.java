@@ -1,6 +1,7 @@
 package io.cucumber.core.options;
 
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.eventbus.OverflowPolicy;
 import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.feature.FeatureWithLines;
 import io.cucumber.core.order.PickleOrder;
@@ -33,6 +34,12 @@ public final class RuntimeOptionsBuilder {
     private Boolean parsedWip = null;
     private PickleOrder parsedPickleOrder = null;
     private Integer parsedCount = null;
+    private Boolean parsedStepIndex = null;
+    private Boolean parsedWorkStealing = null;
+    private Boolean parsedVirtualThreads = null;
+    private Integer parsedFailFastThreshold = null;
+    private OverflowPolicy parsedPluginOverflowPolicy = null;
+    private Long parsedEventBufferBudget = null;
     private Class<? extends ObjectFactory> parsedObjectFactoryClass = null;
 
     public RuntimeOptionsBuilder addFeature(FeatureWithLines featureWithLines) {
@@ -112,6 +119,30 @@ public final class RuntimeOptionsBuilder {
             runtimeOptions.setCount(this.parsedCount);
         }
 
+        if (this.parsedStepIndex != null) {
+            runtimeOptions.setStepIndex(this.parsedStepIndex);
+        }
+
+        if (this.parsedWorkStealing != null) {
+            runtimeOptions.setWorkStealing(this.parsedWorkStealing);
+        }
+
+        if (this.parsedVirtualThreads != null) {
+            runtimeOptions.setVirtualThreads(this.parsedVirtualThreads);
+        }
+
+        if (this.parsedFailFastThreshold != null) {
+            runtimeOptions.setFailFastThreshold(this.parsedFailFastThreshold);
+        }
+
+        if (this.parsedPluginOverflowPolicy != null) {
+            runtimeOptions.setPluginOverflowPolicy(this.parsedPluginOverflowPolicy);
+        }
+
+        if (this.parsedEventBufferBudget != null) {
+            runtimeOptions.setEventBufferBudget(this.parsedEventBufferBudget);
+        }
+
         if (this.parsedIsRerun || !this.parsedFeaturePaths.isEmpty()) {
             runtimeOptions.setFeaturePaths(Collections.<URI>emptyList());
             runtimeOptions.setLineFilters(Collections.<URI, Set<Integer>>emptyMap());
@@ -185,11 +216,56 @@ public final class RuntimeOptionsBuilder {
         return this;
     }
 
+    public RuntimeOptionsBuilder setStepIndex(boolean stepIndex) {
+        this.parsedStepIndex = stepIndex;
+        return this;
+    }
+
     public RuntimeOptionsBuilder setThreads(int threads) {
         this.parsedThreads = threads;
         return this;
     }
 
+    public RuntimeOptionsBuilder setWorkStealing(boolean workStealing) {
+        this.parsedWorkStealing = workStealing;
+        return this;
+    }
+
+    public RuntimeOptionsBuilder setVirtualThreads(boolean virtualThreads) {
+        this.parsedVirtualThreads = virtualThreads;
+        return this;
+    }
+
+    /**
+     * @param failFastThreshold number of failed scenarios after which the
+     *                          remaining scenarios are skipped, or 0 to run
+     *                          all scenarios
+     */
+    public RuntimeOptionsBuilder setFailFastThreshold(int failFastThreshold) {
+        this.parsedFailFastThreshold = failFastThreshold;
+        return this;
+    }
+
+    /**
+     * @param pluginOverflowPolicy what to do with events for a plugin that
+     *                             can not keep up when running with
+     *                             multiple threads
+     */
+    public RuntimeOptionsBuilder setPluginOverflowPolicy(OverflowPolicy pluginOverflowPolicy) {
+        this.parsedPluginOverflowPolicy = pluginOverflowPolicy;
+        return this;
+    }
+
+    /**
+     * @param eventBufferBudget number of bytes of embedded data that plugins
+     *                          which receive events in canonical order may
+     *                          buffer on the heap before it is written to disk
+     */
+    public RuntimeOptionsBuilder setEventBufferBudget(long eventBufferBudget) {
+        this.parsedEventBufferBudget = eventBufferBudget;
+        return this;
+    }
+
     public RuntimeOptionsBuilder setWip(boolean wip) {
         this.parsedWip = wip;
         return this;
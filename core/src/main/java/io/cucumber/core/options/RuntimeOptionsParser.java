@@ -3,6 +3,7 @@ package io.cucumber.core.options;
 import gherkin.GherkinDialect;
 import gherkin.GherkinDialectProvider;
 import gherkin.IGherkinDialectProvider;
+import io.cucumber.core.eventbus.OverflowPolicy;
 import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.feature.FeaturePath;
 import io.cucumber.core.feature.FeatureWithLines;
@@ -10,6 +11,7 @@ import io.cucumber.core.feature.GluePath;
 import io.cucumber.core.feature.RerunLoader;
 import io.cucumber.core.logging.Logger;
 import io.cucumber.core.logging.LoggerFactory;
+import io.cucumber.core.order.PickleDurations;
 import io.cucumber.core.order.PickleOrder;
 import io.cucumber.core.order.StandardPickleOrders;
 import io.cucumber.core.snippets.SnippetType;
@@ -19,8 +21,12 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.ResourceBundle;
 import java.util.regex.Matcher;
@@ -37,6 +43,8 @@ final class RuntimeOptionsParser {
 
     static final String VERSION = ResourceBundle.getBundle("io.cucumber.core.version").getString("cucumber-jvm.version");
     private static final Pattern RANDOM_AND_SEED_PATTERN = Pattern.compile("random(?::(\\d+))?");
+    private static final Pattern LONGEST_AND_TIMING_FILE_PATTERN = Pattern.compile("longest(?::(.+))?");
+    private static final Pattern FAIL_FAST_THRESHOLD_PATTERN = Pattern.compile("\\d+");
 
     // IMPORTANT! Make sure USAGE.txt is always uptodate if this class changes.
     private static final String USAGE_RESOURCE = "/io/cucumber/core/options/USAGE.txt";
@@ -69,6 +77,36 @@ final class RuntimeOptionsParser {
                     throw new CucumberException("--threads must be > 0");
                 }
                 parsedOptions.setThreads(threads);
+            } else if (arg.equals("--no-work-stealing") || arg.equals("--work-stealing")) {
+                parsedOptions.setWorkStealing(!arg.startsWith("--no-"));
+            } else if (arg.equals("--no-virtual-threads") || arg.equals("--virtual-threads")) {
+                parsedOptions.setVirtualThreads(!arg.startsWith("--no-"));
+            } else if (arg.equals("--no-fail-fast")) {
+                parsedOptions.setFailFastThreshold(0);
+            } else if (arg.equals("--fail-fast")) {
+                int threshold = 1;
+                if (!args.isEmpty() && FAIL_FAST_THRESHOLD_PATTERN.matcher(args.get(0).trim()).matches()) {
+                    threshold = Integer.parseInt(args.remove(0).trim());
+                    if (threshold < 1) {
+                        throw new CucumberException("--fail-fast threshold must be > 0");
+                    }
+                }
+                parsedOptions.setFailFastThreshold(threshold);
+            } else if (arg.equals("--plugin-overflow")) {
+                String nextArg = args.remove(0);
+                if ("block".equals(nextArg)) {
+                    parsedOptions.setPluginOverflowPolicy(OverflowPolicy.BLOCK);
+                } else if ("drop".equals(nextArg)) {
+                    parsedOptions.setPluginOverflowPolicy(OverflowPolicy.DROP);
+                } else {
+                    throw new CucumberException("Unrecognized plugin overflow policy " + nextArg);
+                }
+            } else if (arg.equals("--event-buffer-budget")) {
+                long megabytes = Long.parseLong(args.remove(0));
+                if (megabytes < 0) {
+                    throw new CucumberException("--event-buffer-budget must be >= 0");
+                }
+                parsedOptions.setEventBufferBudget(megabytes * 1024 * 1024);
             } else if (arg.equals("--glue") || arg.equals("-g")) {
                 String gluePath = args.remove(0);
                 URI parse = GluePath.parse(gluePath);
@@ -83,6 +121,8 @@ final class RuntimeOptionsParser {
                 parsedOptions.setStrict(!arg.startsWith("--no-"));
             } else if (arg.equals("--no-monochrome") || arg.equals("--monochrome") || arg.equals("-m")) {
                 parsedOptions.setMonochrome(!arg.startsWith("--no-"));
+            } else if (arg.equals("--no-step-index") || arg.equals("--step-index")) {
+                parsedOptions.setStepIndex(!arg.startsWith("--no-"));
             } else if (arg.equals("--snippets")) {
                 String nextArg = args.remove(0);
                 if ("underscore".equals(nextArg)) {
@@ -145,7 +185,16 @@ final class RuntimeOptionsParser {
             return StandardPickleOrders.random(seed);
         }
 
-        throw new CucumberException("Invalid order. Must be either reverse, random or random:<long>");
+        Matcher longestMatcher = LONGEST_AND_TIMING_FILE_PATTERN.matcher(argument);
+        if (longestMatcher.matches()) {
+            String timingFile = longestMatcher.group(1);
+            Map<String, Duration> durations = timingFile != null
+                ? PickleDurations.load(Paths.get(timingFile))
+                : Collections.emptyMap();
+            return StandardPickleOrders.longestFirst(durations);
+        }
+
+        throw new CucumberException("Invalid order. Must be either reverse, random, random:<long>, longest or longest:<file>");
     }
 
     private static void printUsage() {
@@ -0,0 +1,88 @@
+package io.cucumber.core.order;
+
+import gherkin.events.PickleEvent;
+import io.cucumber.core.exception.CucumberException;
+import io.cucumber.core.logging.Logger;
+import io.cucumber.core.logging.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Durations of the scenarios of a previous run, as written by the timing
+ * plugin.
+ * <p>
+ * Each line holds the location of a scenario followed by its duration in
+ * milliseconds. E.g:
+ * <pre>
+ * file:path/to/file.feature:12 1532
+ * </pre>
+ */
+public final class PickleDurations {
+
+    private static final Logger log = LoggerFactory.getLogger(PickleDurations.class);
+
+    private PickleDurations() {
+
+    }
+
+    public static String location(String uri, int line) {
+        return uri + ":" + line;
+    }
+
+    static String location(PickleEvent pickleEvent) {
+        return location(pickleEvent.uri, pickleEvent.pickle.getLocations().get(0).getLine());
+    }
+
+    public static String format(String location, Duration duration) {
+        return location + " " + duration.toMillis();
+    }
+
+    /**
+     * Reads the durations from a timing file. A missing file, e.g. on the
+     * first run, has no durations.
+     *
+     * @param path the timing file
+     * @return the duration by scenario location
+     */
+    public static Map<String, Duration> load(Path path) {
+        Map<String, Duration> durations = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(path, UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                int separator = line.lastIndexOf(' ');
+                if (separator < 0) {
+                    throw new CucumberException("Invalid line in timing file " + path + ": " + line);
+                }
+                String location = line.substring(0, separator).trim();
+                Duration duration = parseDuration(path, line, line.substring(separator + 1));
+                durations.merge(location, duration, (a, b) -> a.compareTo(b) >= 0 ? a : b);
+            }
+        } catch (NoSuchFileException e) {
+            log.info("No timing file at " + path + ". Estimating scenario durations from their steps.");
+        } catch (IOException e) {
+            throw new CucumberException("Could not read timing file " + path, e);
+        }
+        return durations;
+    }
+
+    private static Duration parseDuration(Path path, String line, String millis) {
+        try {
+            return Duration.ofMillis(Long.parseLong(millis));
+        } catch (NumberFormatException e) {
+            throw new CucumberException("Invalid line in timing file " + path + ": " + line, e);
+        }
+    }
+}
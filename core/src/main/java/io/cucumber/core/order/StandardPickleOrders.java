@@ -2,9 +2,12 @@ package io.cucumber.core.order;
 
 import gherkin.events.PickleEvent;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 
 public final class StandardPickleOrders {
@@ -35,6 +38,43 @@ public final class StandardPickleOrders {
         };
     }
 
+    /**
+     * Runs the longest scenarios first. When scenarios run in parallel this
+     * avoids a long scenario starting last and delaying the end of the run.
+     * <p>
+     * Scenarios without a known duration are estimated from their number of
+     * steps, using the average step duration of the scenarios that are known.
+     *
+     * @param durations the durations of a previous run by scenario location
+     * @return an order that runs the longest scenarios first
+     * @see PickleDurations
+     */
+    public static PickleOrder longestFirst(final Map<String, Duration> durations) {
+        return pickleEvents -> {
+            long knownNanos = 0;
+            long knownSteps = 0;
+            for (PickleEvent pickleEvent : pickleEvents) {
+                Duration duration = durations.get(PickleDurations.location(pickleEvent));
+                if (duration != null) {
+                    knownNanos += duration.toNanos();
+                    knownSteps += pickleEvent.pickle.getSteps().size();
+                }
+            }
+            // Without known durations the number of steps is the estimate
+            final long nanosPerStep = knownSteps > 0 ? Math.max(1, knownNanos / knownSteps) : 1;
+
+            Map<PickleEvent, Long> estimates = new IdentityHashMap<>();
+            for (PickleEvent pickleEvent : pickleEvents) {
+                Duration duration = durations.get(PickleDurations.location(pickleEvent));
+                estimates.put(pickleEvent, duration != null
+                    ? duration.toNanos()
+                    : nanosPerStep * pickleEvent.pickle.getSteps().size());
+            }
+            pickleEvents.sort(Comparator.comparing(estimates::get, Comparator.reverseOrder()));
+            return pickleEvents;
+        };
+    }
+
     private static class PickleUriComparator implements Comparator<PickleEvent> {
 
         @Override
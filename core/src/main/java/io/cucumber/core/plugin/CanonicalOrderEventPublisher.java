@@ -1,23 +1,127 @@
 package io.cucumber.core.plugin;
 
+import gherkin.events.PickleEvent;
 import io.cucumber.core.event.Event;
+import io.cucumber.core.event.TestCaseEvent;
+import io.cucumber.core.event.TestCaseFinished;
 import io.cucumber.core.event.TestRunFinished;
 import io.cucumber.core.eventbus.AbstractEventPublisher;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
+import static java.util.Comparator.comparing;
+
+/**
+ * Publishes events in {@link CanonicalEventOrder}.
+ * <p>
+ * Events that are not about a test case are published as they arrive. The
+ * events of test cases are buffered per feature. When the pickles that will
+ * be executed are known, the events of a feature are published as soon as
+ * all its pickles and the pickles of the features before it have finished.
+ * Otherwise, and for pickles that were not planned, events are published
+ * when the test run finishes.
+ * <p>
+ * Features are always released in the order of their uris. When pickles are
+ * executed in another order, e.g. with {@code --order random}, the events of
+ * most features are buffered until the features before them have finished,
+ * in the worst case until the end of the run. Use
+ * {@link #groupByFeature(List)} to execute the pickles in the order in which
+ * their features are released.
+ * <p>
+ * The data of buffered embed events is kept within a heap budget, see
+ * {@link SpillingEmbedBuffer}.
+ */
 final class CanonicalOrderEventPublisher extends AbstractEventPublisher {
 
-    private final List<Event> queue = new LinkedList<>();
+    private final CanonicalEventOrder canonicalOrder = new CanonicalEventOrder();
+    private final Map<String, Feature> features = new TreeMap<>();
+    private final List<Event> unplanned = new ArrayList<>();
+    private final SpillingEmbedBuffer embedBuffer;
+
+    CanonicalOrderEventPublisher(long heapBudget) {
+        this.embedBuffer = new SpillingEmbedBuffer(heapBudget);
+    }
+
+    synchronized void setPlannedPickles(List<PickleEvent> pickleEvents) {
+        for (PickleEvent pickleEvent : pickleEvents) {
+            features.computeIfAbsent(pickleEvent.uri, uri -> new Feature()).remainingPickles++;
+        }
+    }
+
+    /**
+     * Groups the pickles by feature, in the order in which the events of
+     * features are released. The order of the pickles within a feature is
+     * kept.
+     *
+     * @param pickleEvents the pickles to group
+     * @return the grouped pickles
+     */
+    static List<PickleEvent> groupByFeature(List<PickleEvent> pickleEvents) {
+        List<PickleEvent> grouped = new ArrayList<>(pickleEvents);
+        grouped.sort(comparing(pickleEvent -> pickleEvent.uri));
+        return grouped;
+    }
 
-    public void handle(final Event event) {
-        queue.add(event);
+    public synchronized void handle(final Event event) {
         if (event instanceof TestRunFinished) {
-            queue.sort(new CanonicalEventOrder());
-            sendAll(queue);
-            queue.clear();
+            List<Event> remaining = new ArrayList<>(unplanned);
+            for (Feature feature : features.values()) {
+                remaining.addAll(feature.events);
+            }
+            features.clear();
+            unplanned.clear();
+            remaining.sort(canonicalOrder);
+            try {
+                sendReleased(remaining);
+            } finally {
+                embedBuffer.close();
+            }
+            send(event);
+            return;
+        }
+
+        if (!(event instanceof TestCaseEvent)) {
+            send(event);
+            return;
+        }
+
+        Feature feature = features.get(((TestCaseEvent) event).getTestCase().getUri());
+        if (feature == null) {
+            unplanned.add(embedBuffer.buffer(event));
+            return;
+        }
+        feature.events.add(embedBuffer.buffer(event));
+        if (event instanceof TestCaseFinished) {
+            feature.remainingPickles--;
+            sendFinishedFeatures();
+        }
+    }
+
+    private void sendFinishedFeatures() {
+        Iterator<Feature> iterator = features.values().iterator();
+        while (iterator.hasNext()) {
+            Feature feature = iterator.next();
+            if (feature.remainingPickles > 0) {
+                return;
+            }
+            iterator.remove();
+            feature.events.sort(canonicalOrder);
+            sendReleased(feature.events);
         }
     }
 
+    private void sendReleased(List<Event> events) {
+        for (Event event : events) {
+            send(embedBuffer.release(event));
+        }
+    }
+
+    private static final class Feature {
+        private final List<Event> events = new ArrayList<>();
+        private int remainingPickles;
+    }
 }
@@ -19,6 +19,7 @@ import gherkin.pickles.PickleCell;
 import gherkin.pickles.PickleRow;
 import gherkin.pickles.PickleString;
 import gherkin.pickles.PickleTable;
+import io.cucumber.core.event.Attachment;
 import io.cucumber.core.event.EmbedEvent;
 import io.cucumber.core.event.EventPublisher;
 import io.cucumber.core.event.HookTestStep;
@@ -174,7 +175,7 @@ public final class HTMLFormatter implements EventListener {
             String extension = MIME_TYPES_EXTENSIONS.get(mimeType);
             if (extension != null) {
                 StringBuilder fileName = new StringBuilder("embedded").append(embeddedIndex++).append(".").append(extension);
-                writeBytesToURL(event.getData(), toUrl(fileName.toString()));
+                writeAttachmentToURL(event.getAttachment(), toUrl(fileName.toString()));
                 jsFunctionCall("embedding", mimeType, fileName, event.getName());
             }
         }
@@ -484,14 +485,11 @@ public final class HTMLFormatter implements EventListener {
         }
     }
 
-    private static void writeBytesToURL(byte[] buf, URL url) throws CucumberException {
-        OutputStream out = createReportFileOutputStream(url);
-        try {
-            out.write(buf);
+    private static void writeAttachmentToURL(Attachment attachment, URL url) throws CucumberException {
+        try (InputStream in = attachment.getInputStream()) {
+            writeStreamToURL(in, url);
         } catch (IOException e) {
             throw new CucumberException("Unable to write to report file item: ", e);
-        } finally {
-            closeQuietly(out);
         }
     }
 
@@ -29,8 +29,13 @@ import gherkin.pickles.PickleRow;
 import gherkin.pickles.PickleString;
 import gherkin.pickles.PickleTable;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
@@ -38,6 +43,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static java.util.Locale.ROOT;
 
@@ -53,6 +59,8 @@ public final class JSONFormatter implements EventListener {
     private Map<String, Object> currentStepOrHookMap;
     private final Map<String, Object> currentBeforeStepHookList = new HashMap<>();
     private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final String embeddedFilePrefix = "embedded-file-" + UUID.randomUUID() + "-";
+    private final Map<String, Path> embeddedFiles = new HashMap<>();
     private final NiceAppendable out;
     private final TestSourcesModel testSources = new TestSourcesModel();
     
@@ -122,7 +130,7 @@ public final class JSONFormatter implements EventListener {
     }
 
     private void handleEmbed(EmbedEvent event) {
-        addEmbeddingToHookMap(event.getData(), event.getMimeType(), event.getName());
+        addEmbeddingToHookMap(event);
     }
 
     private void handleTestStepFinished(TestStepFinished event) {
@@ -131,7 +139,7 @@ public final class JSONFormatter implements EventListener {
     }
 
     private void finishReport() {
-        gson.toJson(featureMaps, out);
+        gson.toJson(featureMaps, new EmbeddedFileWriter(out));
         out.close();
     }
 
@@ -296,18 +304,27 @@ public final class JSONFormatter implements EventListener {
         ((List<String>)currentStepOrHookMap.get("output")).add(text);
     }
 
-    private void addEmbeddingToHookMap(byte[] data, String mimeType, String name) {
+    private void addEmbeddingToHookMap(EmbedEvent event) {
         if (!currentStepOrHookMap.containsKey("embeddings")) {
             currentStepOrHookMap.put("embeddings", new ArrayList<Map<String, Object>>());
         }
-        Map<String, Object> embedMap = createEmbeddingMap(data, mimeType, name);
+        Map<String, Object> embedMap = createEmbeddingMap(event);
         ((List<Map<String, Object>>)currentStepOrHookMap.get("embeddings")).add(embedMap);
     }
 
-    private Map<String, Object> createEmbeddingMap(byte[] data, String mimeType, String name) {
+    private Map<String, Object> createEmbeddingMap(EmbedEvent event) {
         Map<String, Object> embedMap = new HashMap<>();
-        embedMap.put("mime_type", mimeType);
-        embedMap.put("data", Base64.encodeBytes(data));
+        embedMap.put("mime_type", event.getMimeType());
+        Path file = event.getAttachment().getPath();
+        if (file != null) {
+            // Streamed into the report in place of the placeholder
+            String placeholder = embeddedFilePrefix + embeddedFiles.size();
+            embeddedFiles.put(placeholder, file);
+            embedMap.put("data", placeholder);
+        } else {
+            embedMap.put("data", Base64.encodeBytes(event.getData()));
+        }
+        String name = event.getName();
         if (name != null) {
             embedMap.put("name", name);
         }
@@ -361,4 +378,67 @@ public final class JSONFormatter implements EventListener {
         error.printStackTrace(printWriter);
         return stringWriter.toString();
     }
+
+    /**
+     * Writes the report, replacing the placeholders of embedded files with
+     * their Base64 encoded contents. The files are read in chunks, so they
+     * are never held in memory as a whole.
+     */
+    private final class EmbeddedFileWriter extends Writer {
+        // A multiple of 3 bytes, so the encoded chunks can be concatenated
+        private static final int CHUNK_SIZE = 3 * 16 * 1024;
+
+        private final NiceAppendable out;
+
+        EmbeddedFileWriter(NiceAppendable out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            // Gson writes the contents of a string without escaped
+            // characters, such as a placeholder, in a single call
+            if (str.startsWith(embeddedFilePrefix, off)) {
+                Path file = embeddedFiles.get(str.substring(off, off + len));
+                if (file != null) {
+                    writeEncoded(file);
+                    return;
+                }
+            }
+            out.append(str, off, off + len);
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            out.append(new String(cbuf, off, len));
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private void writeEncoded(Path file) throws IOException {
+            byte[] chunk = new byte[CHUNK_SIZE];
+            try (InputStream in = Files.newInputStream(file)) {
+                int length;
+                while ((length = readChunk(in, chunk)) > 0) {
+                    // Escaped like Gson escapes the data of other embeddings
+                    out.append(Base64.encodeBytes(chunk, 0, length).replace("=", "\\u003d"));
+                }
+            }
+        }
+
+        private int readChunk(InputStream in, byte[] chunk) throws IOException {
+            int length = 0;
+            int read;
+            while (length < chunk.length && (read = in.read(chunk, length, chunk.length - length)) >= 0) {
+                length += read;
+            }
+            return length;
+        }
+    }
 }
@@ -7,6 +7,12 @@ public interface Options {
 
     boolean isStrict();
 
+    /**
+     * @return number of bytes of embedded data that may be buffered on the
+     * heap for plugins that receive events in canonical order
+     */
+    long getEventBufferBudget();
+
     interface Plugin {
 
         Class<? extends io.cucumber.core.plugin.Plugin> pluginClass();
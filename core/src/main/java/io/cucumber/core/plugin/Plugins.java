@@ -1,18 +1,21 @@
 package io.cucumber.core.plugin;
 
+import gherkin.events.PickleEvent;
 import io.cucumber.core.event.Event;
 import io.cucumber.core.event.EventHandler;
 import io.cucumber.core.event.EventPublisher;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public final class Plugins {
     private final List<Plugin> plugins;
     private boolean pluginNamesInstantiated;
 
     private final PluginFactory pluginFactory;
-    private EventPublisher orderedEventPublisher;
+    private CanonicalOrderEventPublisher orderedEventPublisher;
     private final Options pluginOptions;
 
     public Plugins(PluginFactory pluginFactory, Options pluginOptions) {
@@ -22,17 +25,17 @@ public final class Plugins {
     }
 
 
-    private EventPublisher getOrderedEventPublisher(EventPublisher eventPublisher) {
+    private EventPublisher getOrderedEventPublisher(Supplier<EventPublisher> eventPublisher) {
         // The ordered event publisher stores all events
         // so don't create it unless we need it.
         if(orderedEventPublisher == null){
-            orderedEventPublisher = createCanonicalOrderEventPublisher(eventPublisher);
+            orderedEventPublisher = createCanonicalOrderEventPublisher(eventPublisher.get());
         }
         return orderedEventPublisher;
     }
 
-    private static EventPublisher createCanonicalOrderEventPublisher(EventPublisher eventPublisher) {
-        final CanonicalOrderEventPublisher canonicalOrderEventPublisher = new CanonicalOrderEventPublisher();
+    private CanonicalOrderEventPublisher createCanonicalOrderEventPublisher(EventPublisher eventPublisher) {
+        final CanonicalOrderEventPublisher canonicalOrderEventPublisher = new CanonicalOrderEventPublisher(pluginOptions.getEventBufferBudget());
         eventPublisher.registerHandlerFor(Event.class, canonicalOrderEventPublisher::handle);
         return canonicalOrderEventPublisher;
     }
@@ -77,6 +80,37 @@ public final class Plugins {
         }
     }
 
+    /**
+     * Tells the plugins that receive events in canonical order which pickles
+     * will be executed. This allows events to be published as soon as the
+     * pickles of a feature have been executed rather than when the test run
+     * finishes.
+     *
+     * @param pickleEvents the pickles that will be executed
+     */
+    public void setPlannedPickles(List<PickleEvent> pickleEvents) {
+        if (orderedEventPublisher != null) {
+            orderedEventPublisher.setPlannedPickles(pickleEvents);
+        }
+    }
+
+    /**
+     * Groups the pickles by feature when there are plugins that receive
+     * events in canonical order. The events of a feature are published to
+     * these plugins once the features before it have finished, so executing
+     * the pickles in that order avoids buffering the events of the run. The
+     * order of the pickles within a feature is kept.
+     *
+     * @param pickleEvents the pickles that will be executed, in order
+     * @return the pickles in the order they should be executed
+     */
+    public List<PickleEvent> groupByFeature(List<PickleEvent> pickleEvents) {
+        if (orderedEventPublisher == null) {
+            return pickleEvents;
+        }
+        return CanonicalOrderEventPublisher.groupByFeature(pickleEvents);
+    }
+
     public void setEventBusOnEventListenerPlugins(EventPublisher eventPublisher) {
        for (Plugin plugin : plugins) {
            if (plugin instanceof ConcurrentEventListener) {
@@ -88,9 +122,23 @@ public final class Plugins {
     }
 
     public void setSerialEventBusOnEventListenerPlugins(EventPublisher eventPublisher) {
+        setSerialEventBusOnEventListenerPlugins(() -> eventPublisher, plugin -> eventPublisher);
+    }
+
+    /**
+     * Like {@link #setSerialEventBusOnEventListenerPlugins(EventPublisher)}
+     * but each listener receives events from the publisher provided for it.
+     *
+     * @param eventPublisher            provides the publisher for the event
+     *                                  listeners, only when there are any
+     * @param concurrentEventPublishers provides the publisher for each
+     *                                  concurrent event listener
+     */
+    public void setSerialEventBusOnEventListenerPlugins(Supplier<EventPublisher> eventPublisher, Function<ConcurrentEventListener, EventPublisher> concurrentEventPublishers) {
         for (Plugin plugin : plugins) {
             if (plugin instanceof ConcurrentEventListener) {
-                ((ConcurrentEventListener) plugin).setEventPublisher(eventPublisher);
+                ConcurrentEventListener listener = (ConcurrentEventListener) plugin;
+                listener.setEventPublisher(concurrentEventPublishers.apply(listener));
             } else if (plugin instanceof EventListener) {
                 EventPublisher orderedEventPublisher = getOrderedEventPublisher(eventPublisher);
                 ((EventListener) plugin).setEventPublisher(orderedEventPublisher);
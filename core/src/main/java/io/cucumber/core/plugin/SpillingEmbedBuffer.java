@@ -0,0 +1,158 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.event.EmbedEvent;
+import io.cucumber.core.event.Event;
+import io.cucumber.core.exception.CucumberException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Keeps the data of buffered embed events within a heap budget.
+ * <p>
+ * Once the data of the buffered embed events would exceed the budget, the
+ * data of further embed events is written to a temporary file. The event is
+ * buffered without its data and gets its data back from the file when it is
+ * released. Data that is already stored in a file does not count against the
+ * budget.
+ * <p>
+ * Not thread safe.
+ */
+final class SpillingEmbedBuffer {
+
+    private static final byte[] NO_DATA = new byte[0];
+
+    private final long heapBudget;
+    private final Map<EmbedEvent, Segment> spilled = new IdentityHashMap<>();
+    private long bufferedBytes;
+    private FileChannel file;
+
+    SpillingEmbedBuffer(long heapBudget) {
+        this.heapBudget = heapBudget;
+    }
+
+    /**
+     * @param event an event to buffer
+     * @return the event to buffer in its place
+     */
+    Event buffer(Event event) {
+        if (!(event instanceof EmbedEvent)) {
+            return event;
+        }
+        EmbedEvent embedEvent = (EmbedEvent) event;
+        if (embedEvent.getAttachment().getPath() != null) {
+            // Already on disk
+            return event;
+        }
+        byte[] data = embedEvent.getData();
+        if (data == null || bufferedBytes + data.length <= heapBudget) {
+            bufferedBytes += data == null ? 0 : data.length;
+            return event;
+        }
+
+        EmbedEvent withoutData = new EmbedEvent(event.getInstant(), embedEvent.getTestCase(), NO_DATA, embedEvent.getMimeType(), embedEvent.getName());
+        spilled.put(withoutData, write(data));
+        return withoutData;
+    }
+
+    /**
+     * @param event an event returned by {@link #buffer(Event)}
+     * @return the event that was buffered
+     */
+    Event release(Event event) {
+        if (!(event instanceof EmbedEvent)) {
+            return event;
+        }
+        EmbedEvent embedEvent = (EmbedEvent) event;
+        Segment segment = spilled.remove(embedEvent);
+        if (segment == null) {
+            if (embedEvent.getAttachment().getPath() == null) {
+                bufferedBytes -= embedEvent.getAttachment().getSize();
+            }
+            return event;
+        }
+
+        byte[] data = read(segment);
+        if (spilled.isEmpty()) {
+            truncate();
+        }
+        return new EmbedEvent(event.getInstant(), embedEvent.getTestCase(), data, embedEvent.getMimeType(), embedEvent.getName());
+    }
+
+    /**
+     * Removes the temporary file. Events that were written to it can not be
+     * released afterwards.
+     */
+    void close() {
+        spilled.clear();
+        if (file == null) {
+            return;
+        }
+        try {
+            file.close();
+        } catch (IOException e) {
+            throw new CucumberException("Failed to remove temporary file for embedded data", e);
+        } finally {
+            file = null;
+        }
+    }
+
+    private Segment write(byte[] data) {
+        try {
+            if (file == null) {
+                Path path = Files.createTempFile("cucumber-embeddings", ".bin");
+                path.toFile().deleteOnExit();
+                file = FileChannel.open(path, READ, WRITE, DELETE_ON_CLOSE);
+            }
+            long position = file.size();
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                file.write(buffer, position + buffer.position());
+            }
+            return new Segment(position, data.length);
+        } catch (IOException e) {
+            throw new CucumberException("Failed to write embedded data to temporary file", e);
+        }
+    }
+
+    private byte[] read(Segment segment) {
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(segment.length);
+            while (buffer.hasRemaining()) {
+                if (file.read(buffer, segment.position + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of file");
+                }
+            }
+            return buffer.array();
+        } catch (IOException e) {
+            throw new CucumberException("Failed to read embedded data from temporary file", e);
+        }
+    }
+
+    private void truncate() {
+        try {
+            file.truncate(0);
+        } catch (IOException e) {
+            throw new CucumberException("Failed to truncate temporary file for embedded data", e);
+        }
+    }
+
+    private static final class Segment {
+        private final long position;
+        private final int length;
+
+        Segment(long position, int length) {
+            this.position = position;
+            this.length = length;
+        }
+    }
+}
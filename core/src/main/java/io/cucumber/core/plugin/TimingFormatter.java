@@ -0,0 +1,47 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.event.EventPublisher;
+import io.cucumber.core.event.TestCase;
+import io.cucumber.core.event.TestCaseFinished;
+import io.cucumber.core.event.TestRunFinished;
+import io.cucumber.core.order.PickleDurations;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Formatter for reporting the duration of each test case. The report can be
+ * used to run the longest test cases first in a later run.
+ *
+ * @see PickleDurations
+ */
+public final class TimingFormatter implements EventListener {
+    private final NiceAppendable out;
+    private final Map<String, Duration> durations = new LinkedHashMap<>();
+
+    @SuppressWarnings("WeakerAccess") // Used by PluginFactory
+    public TimingFormatter(Appendable out) {
+        this.out = new NiceAppendable(out);
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, this::handleTestCaseFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> finishReport());
+    }
+
+    private void handleTestCaseFinished(TestCaseFinished event) {
+        TestCase testCase = event.getTestCase();
+        String location = PickleDurations.location(testCase.getUri(), testCase.getLine());
+        durations.put(location, event.getResult().getDuration());
+    }
+
+    private void finishReport() {
+        for (Map.Entry<String, Duration> entry : durations.entrySet()) {
+            out.println(PickleDurations.format(entry.getKey(), entry.getValue()));
+        }
+
+        out.close();
+    }
+}
@@ -0,0 +1,141 @@
+package io.cucumber.core.runner;
+
+import io.cucumber.core.event.Attachment;
+import io.cucumber.core.exception.CucumberException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Stores the data embedded by scenarios in files for the duration of a test
+ * run.
+ * <p>
+ * The files are put in a temporary directory that is created when the first
+ * attachment is stored. The directory is removed when the store is closed or,
+ * failing that, by a shutdown hook.
+ * <p>
+ * Thread safe.
+ */
+public final class AttachmentStore {
+
+    private final AtomicLong attachmentCount = new AtomicLong();
+    // Guarded by this
+    private Path directory;
+    private Thread shutdownHook;
+
+    /**
+     * Stores a copy of the contents of a file. The file can be changed or
+     * removed afterwards.
+     *
+     * @param file the file to store
+     * @return a handle to the stored data
+     */
+    Attachment store(Path file) {
+        try {
+            Path target = newAttachmentPath();
+            Files.copy(file, target);
+            return new FileAttachment(target, Files.size(target));
+        } catch (IOException e) {
+            throw new CucumberException("Failed to store attachment " + file, e);
+        }
+    }
+
+    /**
+     * Stores the data read from a stream. The stream is read to its end but
+     * not closed.
+     *
+     * @param data the stream to read the data from
+     * @return a handle to the stored data
+     */
+    Attachment store(InputStream data) {
+        try {
+            Path target = newAttachmentPath();
+            long size = Files.copy(data, target);
+            return new FileAttachment(target, size);
+        } catch (IOException e) {
+            throw new CucumberException("Failed to store attachment", e);
+        }
+    }
+
+    /**
+     * Removes the stored attachments. Handles to stored attachments can not
+     * be read afterwards.
+     */
+    public synchronized void close() {
+        if (directory == null) {
+            return;
+        }
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // Shutting down, the hook removes the directory
+            return;
+        }
+        try {
+            delete(directory);
+        } catch (IOException e) {
+            throw new CucumberException("Failed to remove attachments from " + directory, e);
+        } finally {
+            directory = null;
+            shutdownHook = null;
+        }
+    }
+
+    private Path newAttachmentPath() throws IOException {
+        return directory().resolve("attachment-" + attachmentCount.incrementAndGet());
+    }
+
+    private synchronized Path directory() throws IOException {
+        if (directory == null) {
+            Path created = Files.createTempDirectory("cucumber-attachments");
+            shutdownHook = new Thread(() -> {
+                try {
+                    delete(created);
+                } catch (IOException ignored) {
+                    // Nothing left to report to
+                }
+            }, "cucumber-attachments-cleanup");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+            directory = created;
+        }
+        return directory;
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    private static final class FileAttachment implements Attachment {
+        private final Path path;
+        private final long size;
+
+        FileAttachment(Path path, long size) {
+            this.path = path;
+            this.size = size;
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public Path getPath() {
+            return path;
+        }
+    }
+}
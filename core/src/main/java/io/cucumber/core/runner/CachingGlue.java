@@ -12,12 +12,15 @@ import io.cucumber.core.backend.StepDefinition;
 import io.cucumber.core.event.StepDefinedEvent;
 import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.stepexpression.Argument;
+import io.cucumber.core.stepexpression.ArgumentMatcher;
 import io.cucumber.core.stepexpression.TypeRegistry;
 import io.cucumber.cucumberexpressions.ParameterByTypeTransformer;
 import io.cucumber.datatable.TableCellByTypeTransformer;
 import io.cucumber.datatable.TableEntryByTypeTransformer;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 final class CachingGlue implements Glue {
     private static final Comparator<CoreHookDefinition> ASCENDING = Comparator.comparing(CoreHookDefinition::getOrder);
@@ -34,75 +37,126 @@ final class CachingGlue implements Glue {
     private final List<StepDefinition> stepDefinitions = new ArrayList<>();
     private final List<CoreHookDefinition> afterStepHooks = new ArrayList<>();
     private final List<CoreHookDefinition> afterHooks = new ArrayList<>();
+    // Changes whenever a hook is added or removed
+    private int hooksVersion = 0;
 
     /*
      * Storing the pattern that matches the step text allows us to cache the rather slow
      * regex comparisons in `stepDefinitionMatches`.
-     * This cache does not need to be cleaned. The matching pattern be will used to look
-     * up a pickle specific step definition from `stepDefinitionsByPattern`.
+     * This cache only needs to be cleaned when global glue changes. The matching pattern
+     * will be used to look up a step definition from the snapshot or from the scenario
+     * scoped `stepDefinitionsByPattern`.
+     * The cache may be shared with the glue of other runners that load the same glue.
      */
-    private final Map<String, String> stepPatternByStepText = new HashMap<>();
+    private final StepPatternCache stepPatternCache;
     private final Map<String, CoreStepDefinition> stepDefinitionsByPattern = new TreeMap<>();
+    private StepDefinitionIndex stepDefinitionIndex;
 
-    private final EventBus bus;
+    /*
+     * Compiling a step definition parses its expression and creates the regular
+     * expressions for all its parameters. Step definitions that are not scenario
+     * scoped are compiled once per locale and reused for every pickle. The
+     * snapshots are discarded when global glue is added.
+     * Each snapshot owns the type registry for its locale. A new type registry
+     * is only created for a new snapshot, or for each pickle when scenario
+     * scoped types have to be added to it.
+     */
+    private final Map<Locale, GlueSnapshot> snapshots = new HashMap<>();
+    private GlueSnapshot snapshot = GlueSnapshot.EMPTY;
+    private TypeRegistry typeRegistry;
+    private boolean globalGlueChanged = false;
+    private boolean globalStepDefinitionsAnnounced = false;
+    private boolean glueCompiled = false;
 
+    private final EventBus bus;
+    private final boolean stepIndex;
 
     CachingGlue(EventBus bus) {
+        this(bus, true);
+    }
+
+    CachingGlue(EventBus bus, boolean stepIndex) {
+        this(bus, stepIndex, new StepPatternCache());
+    }
+
+    CachingGlue(EventBus bus, boolean stepIndex, StepPatternCache stepPatternCache) {
         this.bus = bus;
+        this.stepIndex = stepIndex;
+        this.stepPatternCache = stepPatternCache;
     }
 
     @Override
     public void addStepDefinition(StepDefinition stepDefinition) {
         stepDefinitions.add(stepDefinition);
+        invalidateSnapshots(stepDefinition);
     }
 
     @Override
     public void addBeforeHook(HookDefinition hookDefinition) {
         beforeHooks.add(CoreHookDefinition.create(hookDefinition));
         beforeHooks.sort(ASCENDING);
+        hooksVersion++;
     }
 
     @Override
     public void addBeforeStepHook(HookDefinition hookDefinition) {
         beforeStepHooks.add(CoreHookDefinition.create(hookDefinition));
         beforeStepHooks.sort(ASCENDING);
+        hooksVersion++;
     }
 
     @Override
     public void addAfterHook(HookDefinition hookDefinition) {
         afterHooks.add(CoreHookDefinition.create(hookDefinition));
         afterHooks.sort(DESCENDING);
+        hooksVersion++;
     }
 
     @Override
     public void addAfterStepHook(HookDefinition hookDefinition) {
         afterStepHooks.add(CoreHookDefinition.create(hookDefinition));
         afterStepHooks.sort(DESCENDING);
+        hooksVersion++;
     }
 
     @Override
     public void addParameterType(ParameterTypeDefinition parameterTypeDefinition) {
         parameterTypeDefinitions.add(parameterTypeDefinition);
+        invalidateSnapshots(parameterTypeDefinition);
     }
 
     @Override
     public void addDataTableType(DataTableTypeDefinition dataTableTypeDefinition) {
         dataTableTypeDefinitions.add(dataTableTypeDefinition);
+        invalidateSnapshots(dataTableTypeDefinition);
     }
 
     @Override
     public void addDefaultParameterTransformer(DefaultParameterTransformerDefinition defaultParameterTransformer) {
         defaultParameterTransformers.add(defaultParameterTransformer);
+        invalidateSnapshots(defaultParameterTransformer);
     }
 
     @Override
     public void addDefaultDataTableEntryTransformer(DefaultDataTableEntryTransformerDefinition defaultDataTableEntryTransformer) {
         defaultDataTableEntryTransformers.add(defaultDataTableEntryTransformer);
+        invalidateSnapshots(defaultDataTableEntryTransformer);
     }
 
     @Override
     public void addDefaultDataTableCellTransformer(DefaultDataTableCellTransformerDefinition defaultDataTableCellTransformer) {
         defaultDataTableCellTransformers.add(defaultDataTableCellTransformer);
+        invalidateSnapshots(defaultDataTableCellTransformer);
+    }
+
+    private void invalidateSnapshots(Object glue) {
+        if (!(glue instanceof ScenarioScoped)) {
+            globalGlueChanged = true;
+        }
+    }
+
+    int getHooksVersion() {
+        return hooksVersion;
     }
 
     Collection<CoreHookDefinition> getBeforeHooks() {
@@ -134,13 +188,23 @@ final class CachingGlue implements Glue {
     }
 
     Map<String, String> getStepPatternByStepText() {
-        return stepPatternByStepText;
+        return stepPatternCache.getPatternByStepText();
+    }
+
+    Set<String> getUndefinedStepTexts() {
+        return snapshot.undefinedStepTexts;
     }
 
     Map<String, CoreStepDefinition> getStepDefinitionsByPattern() {
+        Map<String, CoreStepDefinition> stepDefinitionsByPattern = new TreeMap<>(snapshot.stepDefinitionsByPattern);
+        stepDefinitionsByPattern.putAll(this.stepDefinitionsByPattern);
         return stepDefinitionsByPattern;
     }
 
+    TypeRegistry getTypeRegistry() {
+        return typeRegistry;
+    }
+
     Collection<DefaultParameterTransformerDefinition> getDefaultParameterTransformers() {
         return defaultParameterTransformers;
     }
@@ -154,9 +218,106 @@ final class CachingGlue implements Glue {
     }
 
     void prepareGlue(TypeRegistry typeRegistry) throws DuplicateStepDefinitionException {
-        parameterTypeDefinitions.forEach(ptd -> typeRegistry.defineParameterType(ptd.parameterType()));
-        dataTableTypeDefinitions.forEach(dtd -> typeRegistry.defineDataTableType(dtd.dataTableType()));
+        prepareGlue(typeRegistry.locale(), locale -> typeRegistry);
+    }
+
+    void prepareGlue(Locale locale, Function<Locale, TypeRegistry> typeRegistryFactory) throws DuplicateStepDefinitionException {
+        if (globalGlueChanged) {
+            // The shared cache is still valid when glue is loaded for the
+            // first time. Other runners may have populated it already.
+            if (glueCompiled) {
+                stepPatternCache.clear();
+            }
+            snapshots.clear();
+            globalGlueChanged = false;
+            globalStepDefinitionsAnnounced = false;
+        }
+        glueCompiled = true;
+
+        if (hasScenarioScopedTypes()) {
+            // Scenario scoped types can change the meaning of any expression.
+            // So all step definitions have to be compiled for this scenario.
+            TypeRegistry typeRegistry = typeRegistryFactory.apply(locale);
+            defineTypes(typeRegistry, all -> true);
+            snapshot = GlueSnapshot.EMPTY;
+            this.typeRegistry = typeRegistry;
+            compileStepDefinitions(all -> true);
+            stepDefinitionIndex = createStepDefinitionIndex(stepDefinitionsByPattern);
+            return;
+        }
+
+        snapshot = snapshots.computeIfAbsent(locale, l -> createSnapshot(typeRegistryFactory.apply(l)));
+        this.typeRegistry = snapshot.typeRegistry;
+        compileStepDefinitions(glue -> glue instanceof ScenarioScoped);
+        stepDefinitionIndex = createStepDefinitionIndex(stepDefinitionsByPattern);
+
+        // Undefined steps remain undefined for as long as the same scenario
+        // scoped step definitions are used with this snapshot.
+        if (!snapshot.scenarioScopedPatterns.equals(stepDefinitionsByPattern.keySet())) {
+            snapshot.scenarioScopedPatterns = new HashSet<>(stepDefinitionsByPattern.keySet());
+            snapshot.undefinedStepTexts.clear();
+        }
+    }
+
+    private StepDefinitionIndex createStepDefinitionIndex(Map<String, CoreStepDefinition> stepDefinitionsByPattern) {
+        if (!stepIndex || stepDefinitionsByPattern.isEmpty()) {
+            return null;
+        }
+        return new StepDefinitionIndex(stepDefinitionsByPattern.values());
+    }
 
+    private boolean hasScenarioScopedTypes() {
+        return containsScenarioScoped(parameterTypeDefinitions)
+            || containsScenarioScoped(dataTableTypeDefinitions)
+            || containsScenarioScoped(defaultParameterTransformers)
+            || containsScenarioScoped(defaultDataTableEntryTransformers)
+            || containsScenarioScoped(defaultDataTableCellTransformers);
+    }
+
+    private static boolean containsScenarioScoped(Collection<?> glues) {
+        for (Object glue : glues) {
+            if (glue instanceof ScenarioScoped) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private GlueSnapshot createSnapshot(TypeRegistry typeRegistry) {
+        defineTypes(typeRegistry, glue -> !(glue instanceof ScenarioScoped));
+        Map<String, CoreStepDefinition> stepDefinitionsByPattern = new TreeMap<>();
+        for (StepDefinition stepDefinition : stepDefinitions) {
+            if (stepDefinition instanceof ScenarioScoped) {
+                continue;
+            }
+            CoreStepDefinition coreStepDefinition = new CoreStepDefinition(stepDefinition, typeRegistry);
+            CoreStepDefinition previous = stepDefinitionsByPattern.get(stepDefinition.getPattern());
+            if (previous != null) {
+                throw new DuplicateStepDefinitionException(previous.getStepDefinition(), stepDefinition);
+            }
+            stepDefinitionsByPattern.put(coreStepDefinition.getPattern(), coreStepDefinition);
+        }
+
+        // Global step definitions are only announced once, regardless
+        // of the number of locales they were compiled for.
+        if (!globalStepDefinitionsAnnounced) {
+            stepDefinitionsByPattern.values().forEach(coreStepDefinition ->
+                bus.send(new StepDefinedEvent(bus.getInstant(), coreStepDefinition.getStepDefinition()))
+            );
+            globalStepDefinitionsAnnounced = true;
+        }
+        return new GlueSnapshot(typeRegistry, stepDefinitionsByPattern, createStepDefinitionIndex(stepDefinitionsByPattern));
+    }
+
+    private void defineTypes(TypeRegistry typeRegistry, Predicate<Object> include) {
+        parameterTypeDefinitions.stream()
+            .filter(include)
+            .forEach(ptd -> typeRegistry.defineParameterType(ptd.parameterType()));
+        dataTableTypeDefinitions.stream()
+            .filter(include)
+            .forEach(dtd -> typeRegistry.defineDataTableType(dtd.dataTableType()));
+
+        List<DefaultParameterTransformerDefinition> defaultParameterTransformers = filter(this.defaultParameterTransformers, include);
         if (defaultParameterTransformers.size() == 1) {
             DefaultParameterTransformerDefinition definition = defaultParameterTransformers.get(0);
             ParameterByTypeTransformer transformer = definition.parameterByTypeTransformer();
@@ -165,6 +326,7 @@ final class CachingGlue implements Glue {
             throw new DuplicateDefaultParameterTransformers(defaultParameterTransformers);
         }
 
+        List<DefaultDataTableEntryTransformerDefinition> defaultDataTableEntryTransformers = filter(this.defaultDataTableEntryTransformers, include);
         if (defaultDataTableEntryTransformers.size() == 1) {
             DefaultDataTableEntryTransformerDefinition definition = defaultDataTableEntryTransformers.get(0);
             TableEntryByTypeTransformer transformer = definition.tableEntryByTypeTransformer();
@@ -173,7 +335,7 @@ final class CachingGlue implements Glue {
             throw new DuplicateDefaultDataTableEntryTransformers(defaultDataTableEntryTransformers);
         }
 
-
+        List<DefaultDataTableCellTransformerDefinition> defaultDataTableCellTransformers = filter(this.defaultDataTableCellTransformers, include);
         if (defaultDataTableCellTransformers.size() == 1) {
             DefaultDataTableCellTransformerDefinition definition = defaultDataTableCellTransformers.get(0);
             TableCellByTypeTransformer transformer = definition.tableCellByTypeTransformer();
@@ -181,19 +343,45 @@ final class CachingGlue implements Glue {
         } else if (defaultDataTableCellTransformers.size() > 1) {
             throw new DuplicateDefaultDataTableCellTransformers(defaultDataTableCellTransformers);
         }
+    }
+
+    private static <T> List<T> filter(List<T> glues, Predicate<Object> include) {
+        List<T> filtered = new ArrayList<>(glues.size());
+        for (T glue : glues) {
+            if (include.test(glue)) {
+                filtered.add(glue);
+            }
+        }
+        return filtered;
+    }
 
-        stepDefinitions.forEach(stepDefinition -> {
+    private void compileStepDefinitions(Predicate<Object> include) {
+        for (StepDefinition stepDefinition : stepDefinitions) {
+            if (!include.test(stepDefinition)) {
+                continue;
+            }
             CoreStepDefinition coreStepDefinition = new CoreStepDefinition(stepDefinition, typeRegistry);
-            CoreStepDefinition previous = stepDefinitionsByPattern.get(stepDefinition.getPattern());
+            CoreStepDefinition previous = getCoreStepDefinition(stepDefinition.getPattern());
             if (previous != null) {
                 throw new DuplicateStepDefinitionException(previous.getStepDefinition(), stepDefinition);
             }
             stepDefinitionsByPattern.put(coreStepDefinition.getPattern(), coreStepDefinition);
             bus.send(new StepDefinedEvent(bus.getInstant(), stepDefinition));
-        });
+        }
+    }
+
+    private CoreStepDefinition getCoreStepDefinition(String pattern) {
+        CoreStepDefinition coreStepDefinition = stepDefinitionsByPattern.get(pattern);
+        if (coreStepDefinition != null) {
+            return coreStepDefinition;
+        }
+        return snapshot.stepDefinitionsByPattern.get(pattern);
     }
 
     PickleStepDefinitionMatch stepDefinitionMatch(String featurePath, PickleStep step) {
+        if (snapshot.undefinedStepTexts.contains(step.getText())) {
+            return null;
+        }
         PickleStepDefinitionMatch cachedMatch = cachedStepDefinitionMatch(featurePath, step);
         if (cachedMatch != null) {
             return cachedMatch;
@@ -203,12 +391,12 @@ final class CachingGlue implements Glue {
 
 
     private PickleStepDefinitionMatch cachedStepDefinitionMatch(String featurePath, PickleStep step) {
-        String stepDefinitionPattern = stepPatternByStepText.get(step.getText());
+        String stepDefinitionPattern = stepPatternCache.get(step.getText());
         if (stepDefinitionPattern == null) {
             return null;
         }
 
-        CoreStepDefinition coreStepDefinition = stepDefinitionsByPattern.get(stepDefinitionPattern);
+        CoreStepDefinition coreStepDefinition = getCoreStepDefinition(stepDefinitionPattern);
         if (coreStepDefinition == null) {
             return null;
         }
@@ -224,6 +412,10 @@ final class CachingGlue implements Glue {
     private PickleStepDefinitionMatch findStepDefinitionMatch(String featurePath, PickleStep step) {
         List<PickleStepDefinitionMatch> matches = stepDefinitionMatches(featurePath, step);
         if (matches.isEmpty()) {
+            // Without a snapshot scenario scoped types may change between scenarios
+            if (snapshot != GlueSnapshot.EMPTY) {
+                snapshot.undefinedStepTexts.add(step.getText());
+            }
             return null;
         }
         if (matches.size() > 1) {
@@ -232,28 +424,50 @@ final class CachingGlue implements Glue {
 
         PickleStepDefinitionMatch match = matches.get(0);
 
-        stepPatternByStepText.put(step.getText(), match.getPattern());
+        stepPatternCache.put(step.getText(), match.getPattern());
 
         return match;
     }
 
     private List<PickleStepDefinitionMatch> stepDefinitionMatches(String featurePath, PickleStep step) {
         List<PickleStepDefinitionMatch> result = new ArrayList<>();
-        for (CoreStepDefinition coreStepDefinition : stepDefinitionsByPattern.values()) {
-            List<Argument> arguments = coreStepDefinition.matchedArguments(step);
+        // All candidates share a single view of the table
+        List<List<String>> tableArgument = ArgumentMatcher.tableArgument(step);
+        addStepDefinitionMatches(result, candidates(snapshot.stepDefinitionIndex, snapshot.stepDefinitionsByPattern, step), featurePath, step, tableArgument);
+        addStepDefinitionMatches(result, candidates(stepDefinitionIndex, stepDefinitionsByPattern, step), featurePath, step, tableArgument);
+        if (result.size() > 1) {
+            // Keep the order in which ambiguous matches are reported stable
+            result.sort(Comparator.comparing(PickleStepDefinitionMatch::getPattern));
+        }
+        return result;
+    }
+
+    private static Collection<CoreStepDefinition> candidates(StepDefinitionIndex index, Map<String, CoreStepDefinition> stepDefinitionsByPattern, PickleStep step) {
+        if (index == null) {
+            return stepDefinitionsByPattern.values();
+        }
+        return index.candidates(step.getText());
+    }
+
+    private static void addStepDefinitionMatches(List<PickleStepDefinitionMatch> result, Collection<CoreStepDefinition> coreStepDefinitions, String featurePath, PickleStep step, List<List<String>> tableArgument) {
+        for (CoreStepDefinition coreStepDefinition : coreStepDefinitions) {
+            List<Argument> arguments = coreStepDefinition.matchedArguments(step, tableArgument);
             if (arguments != null) {
                 result.add(new PickleStepDefinitionMatch(arguments, coreStepDefinition.getStepDefinition(), featurePath, step));
             }
         }
-        return result;
     }
 
     void removeScenarioScopedGlue() {
         stepDefinitionsByPattern.clear();
-        removeScenarioScopedGlue(beforeHooks);
-        removeScenarioScopedGlue(beforeStepHooks);
-        removeScenarioScopedGlue(afterHooks);
-        removeScenarioScopedGlue(afterStepHooks);
+        stepDefinitionIndex = null;
+        boolean hooksRemoved = removeScenarioScopedGlue(beforeHooks);
+        hooksRemoved |= removeScenarioScopedGlue(beforeStepHooks);
+        hooksRemoved |= removeScenarioScopedGlue(afterHooks);
+        hooksRemoved |= removeScenarioScopedGlue(afterStepHooks);
+        if (hooksRemoved) {
+            hooksVersion++;
+        }
         removeScenarioScopedGlue(stepDefinitions);
         removeScenarioScopedGlue(dataTableTypeDefinitions);
         removeScenarioScopedGlue(parameterTypeDefinitions);
@@ -262,7 +476,8 @@ final class CachingGlue implements Glue {
         removeScenarioScopedGlue(defaultDataTableCellTransformers);
     }
 
-    private void removeScenarioScopedGlue(Iterable<?> glues) {
+    private boolean removeScenarioScopedGlue(Iterable<?> glues) {
+        boolean removed = false;
         Iterator<?> glueIterator = glues.iterator();
         while (glueIterator.hasNext()) {
             Object glue = glueIterator.next();
@@ -270,8 +485,26 @@ final class CachingGlue implements Glue {
                 ScenarioScoped scenarioScopedGlue = (ScenarioScoped) glue;
                 scenarioScopedGlue.disposeScenarioScope();
                 glueIterator.remove();
+                removed = true;
             }
         }
+        return removed;
+    }
+
+    private static final class GlueSnapshot {
+        static final GlueSnapshot EMPTY = new GlueSnapshot(null, Collections.emptyMap(), null);
+
+        private final TypeRegistry typeRegistry;
+        private final Map<String, CoreStepDefinition> stepDefinitionsByPattern;
+        private final StepDefinitionIndex stepDefinitionIndex;
+        private final Set<String> undefinedStepTexts = new HashSet<>();
+        private Set<String> scenarioScopedPatterns = Collections.emptySet();
+
+        private GlueSnapshot(TypeRegistry typeRegistry, Map<String, CoreStepDefinition> stepDefinitionsByPattern, StepDefinitionIndex stepDefinitionIndex) {
+            this.typeRegistry = typeRegistry;
+            this.stepDefinitionsByPattern = stepDefinitionsByPattern;
+            this.stepDefinitionIndex = stepDefinitionIndex;
+        }
     }
 
 }
@@ -49,10 +49,18 @@ class CoreStepDefinition {
         return stepDefinition;
     }
 
+    StepExpression getExpression() {
+        return expression;
+    }
+
     List<Argument> matchedArguments(PickleStep step) {
         return argumentMatcher.argumentsFrom(step, types);
     }
 
+    List<Argument> matchedArguments(PickleStep step, List<List<String>> tableArgument) {
+        return argumentMatcher.argumentsFrom(step, tableArgument, types);
+    }
+
     private static Type[] getTypes(List<ParameterInfo> parameterInfos) {
         if (parameterInfos == null) {
             return new Type[0];
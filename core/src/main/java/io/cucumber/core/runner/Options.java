@@ -14,4 +14,6 @@ public interface Options {
     SnippetType getSnippetType();
 
     Class<? extends ObjectFactory> getObjectFactoryClass();
+
+    boolean isStepIndex();
 }
@@ -14,6 +14,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 class PickleStepDefinitionMatch extends Match implements StepDefinitionMatch {
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
     private final StepDefinition stepDefinition;
     private final transient String featurePath;
     // The official JSON gherkin format doesn't have a step attribute, so we're marking this as transient
@@ -35,10 +37,10 @@ class PickleStepDefinitionMatch extends Match implements StepDefinitionMatch {
         if (parameterInfos != null && argumentCount != parameterInfos.size()) {
             throw arityMismatch(parameterInfos.size());
         }
-        List<Object> result = new ArrayList<>();
+        Object[] result = argumentCount == 0 ? NO_ARGUMENTS : new Object[argumentCount];
         try {
-            for (Argument argument : getArguments()) {
-                result.add(argument.getValue());
+            for (int i = 0; i < argumentCount; i++) {
+                result[i] = getArguments().get(i).getValue();
             }
         } catch (UndefinedDataTableTypeException e) {
             throw registerTypeInConfiguration(e);
@@ -47,7 +49,7 @@ class PickleStepDefinitionMatch extends Match implements StepDefinitionMatch {
         }
 
         try {
-            stepDefinition.execute(result.toArray(new Object[0]));
+            stepDefinition.execute(result);
         } catch (CucumberException e) {
             throw e;
         } catch (Throwable t) {
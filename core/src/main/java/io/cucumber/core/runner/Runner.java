@@ -13,16 +13,21 @@ import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.logging.Logger;
 import io.cucumber.core.logging.LoggerFactory;
 import io.cucumber.core.snippets.SnippetGenerator;
+import io.cucumber.core.snippets.SnippetType;
 import io.cucumber.core.stepexpression.TypeRegistry;
 
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 
 public final class Runner {
 
@@ -34,15 +39,29 @@ public final class Runner {
     private final Options runnerOptions;
     private final ObjectFactory objectFactory;
     private final TypeRegistryConfigurer typeRegistryConfigurer;
+    private final AttachmentStore attachmentStore;
     private List<SnippetGenerator> snippetGenerators;
+    private TypeRegistry snippetTypeRegistry;
+    private final Map<SnippetKey, List<String>> snippetsByStep = new HashMap<>();
+    private final Map<List<String>, HookPlan> hookPlansByTags = new HashMap<>();
+    private int hookPlansVersion = -1;
 
     public Runner(EventBus bus, Collection<? extends Backend> backends, ObjectFactory objectFactory, TypeRegistryConfigurer typeRegistryConfigurer, Options runnerOptions) {
+        this(bus, backends, objectFactory, typeRegistryConfigurer, runnerOptions, new StepPatternCache());
+    }
+
+    public Runner(EventBus bus, Collection<? extends Backend> backends, ObjectFactory objectFactory, TypeRegistryConfigurer typeRegistryConfigurer, Options runnerOptions, StepPatternCache stepPatternCache) {
+        this(bus, backends, objectFactory, typeRegistryConfigurer, runnerOptions, stepPatternCache, new AttachmentStore());
+    }
+
+    public Runner(EventBus bus, Collection<? extends Backend> backends, ObjectFactory objectFactory, TypeRegistryConfigurer typeRegistryConfigurer, Options runnerOptions, StepPatternCache stepPatternCache, AttachmentStore attachmentStore) {
         this.bus = bus;
         this.runnerOptions = runnerOptions;
         this.backends = backends;
-        this.glue = new CachingGlue(bus);
+        this.glue = new CachingGlue(bus, runnerOptions.isStepIndex(), stepPatternCache);
         this.objectFactory = objectFactory;
         this.typeRegistryConfigurer = typeRegistryConfigurer;
+        this.attachmentStore = attachmentStore;
         List<URI> gluePaths = runnerOptions.getGlue();
         log.debug("Loading glue from " + gluePaths);
         for (Backend backend : backends) {
@@ -56,16 +75,40 @@ public final class Runner {
     }
 
     public void runPickle(PickleEvent pickle) {
+        runPickle(pickle, runnerOptions.isDryRun());
+    }
+
+    /**
+     * Reports the pickle as skipped without running it. No runner is needed,
+     * the backend worlds are not built and the steps are not matched to the
+     * glue.
+     *
+     * @param bus    the bus to report the pickle on
+     * @param pickle the pickle to skip
+     */
+    public static void skipPickle(EventBus bus, PickleEvent pickle) {
+        new TestCase(emptyList(), emptyList(), emptyList(), pickle, true).skip(bus);
+    }
+
+    private void runPickle(PickleEvent pickle, boolean skipSteps) {
         try {
-            TypeRegistry typeRegistry = createTypeRegistryForPickle(pickle);
-            snippetGenerators = createSnippetGeneratorsForPickle(typeRegistry);
+            Locale locale = localeForPickle(pickle);
 
             buildBackendWorlds(); // Java8 step definitions will be added to the glue here
 
-            glue.prepareGlue(typeRegistry);
+            // The glue only asks for a new type registry when it can not reuse
+            // the one prepared for an earlier pickle in the same locale
+            glue.prepareGlue(locale, this::createTypeRegistry);
+            // When the glue reuses a type registry the snippets generated for
+            // earlier pickles still apply.
+            if (snippetTypeRegistry != glue.getTypeRegistry()) {
+                snippetTypeRegistry = glue.getTypeRegistry();
+                snippetGenerators = createSnippetGeneratorsForPickle(snippetTypeRegistry);
+                snippetsByStep.clear();
+            }
 
-            TestCase testCase = createTestCaseForPickle(pickle);
-            testCase.run(bus);
+            TestCase testCase = createTestCaseForPickle(pickle, skipSteps);
+            testCase.run(bus, attachmentStore);
         } finally {
             glue.removeScenarioScopedGlue();
             disposeBackendWorlds();
@@ -79,28 +122,31 @@ public final class Runner {
             .collect(Collectors.toList());
     }
 
-    private TypeRegistry createTypeRegistryForPickle(PickleEvent pickle) {
+    private Locale localeForPickle(PickleEvent pickle) {
         Locale locale = typeRegistryConfigurer.locale();
         if(locale == null){
             locale = new Locale(pickle.pickle.getLanguage());
         }
+        return locale;
+    }
+
+    private TypeRegistry createTypeRegistry(Locale locale) {
         TypeRegistry typeRegistry = new TypeRegistry(locale);
         typeRegistryConfigurer.configureTypeRegistry(typeRegistry);
         return typeRegistry;
     }
 
-    private TestCase createTestCaseForPickle(PickleEvent pickleEvent) {
+    private TestCase createTestCaseForPickle(PickleEvent pickleEvent, boolean skipSteps) {
         if (pickleEvent.pickle.getSteps().isEmpty()) {
-            return new TestCase(emptyList(), emptyList(), emptyList(), pickleEvent, runnerOptions.isDryRun());
+            return new TestCase(emptyList(), emptyList(), emptyList(), pickleEvent, skipSteps);
         }
 
-        List<PickleStepTestStep> testSteps = createTestStepsForPickleSteps(pickleEvent);
-        List<HookTestStep> beforeHooks = createTestStepsForBeforeHooks(pickleEvent.pickle.getTags());
-        List<HookTestStep> afterHooks = createTestStepsForAfterHooks(pickleEvent.pickle.getTags());
-        return new TestCase(testSteps, beforeHooks, afterHooks, pickleEvent, runnerOptions.isDryRun());
+        HookPlan hookPlan = hookPlanForTags(pickleEvent.pickle.getTags());
+        List<PickleStepTestStep> testSteps = createTestStepsForPickleSteps(pickleEvent, hookPlan);
+        return new TestCase(testSteps, hookPlan.beforeHooks, hookPlan.afterHooks, pickleEvent, skipSteps);
     }
 
-    private List<PickleStepTestStep> createTestStepsForPickleSteps(PickleEvent pickleEvent) {
+    private List<PickleStepTestStep> createTestStepsForPickleSteps(PickleEvent pickleEvent, HookPlan hookPlan) {
         List<PickleStepTestStep> testSteps = new ArrayList<>();
 
         for (PickleStep step : pickleEvent.pickle.getSteps()) {
@@ -108,13 +154,8 @@ public final class Runner {
             try {
                 match = glue.stepDefinitionMatch(pickleEvent.uri, step);
                 if (match == null) {
-                    List<String> snippets = new ArrayList<>();
-                    for (SnippetGenerator snippetGenerator : snippetGenerators) {
-                        List<String> snippet = snippetGenerator.getSnippet(step, "**KEYWORD**", runnerOptions.getSnippetType());
-                        snippets.addAll(snippet);
-                    }
-                    if (!snippets.isEmpty()) {
-                        bus.send(new SnippetsSuggestedEvent(bus.getInstant(), pickleEvent.uri, locations(step), snippets));
+                    if (bus.hasHandlersFor(SnippetsSuggestedEvent.class)) {
+                        suggestSnippets(pickleEvent, step);
                     }
                     match = new UndefinedPickleStepDefinitionMatch(step);
                 }
@@ -125,42 +166,60 @@ public final class Runner {
             }
 
 
-            List<HookTestStep> afterStepHookSteps = createAfterStepHooks(pickleEvent.pickle.getTags());
-            List<HookTestStep> beforeStepHookSteps = createBeforeStepHooks(pickleEvent.pickle.getTags());
-            testSteps.add(new PickleStepTestStep(pickleEvent.uri, step, beforeStepHookSteps, afterStepHookSteps, match));
+            testSteps.add(new PickleStepTestStep(pickleEvent.uri, step, hookPlan.beforeStepHooks, hookPlan.afterStepHooks, match));
         }
 
         return testSteps;
     }
 
+    private void suggestSnippets(PickleEvent pickleEvent, PickleStep step) {
+        List<String> snippets = snippetsByStep.computeIfAbsent(
+            new SnippetKey(step, runnerOptions.getSnippetType()),
+            this::createSnippets
+        );
+        if (!snippets.isEmpty()) {
+            bus.send(new SnippetsSuggestedEvent(bus.getInstant(), pickleEvent.uri, locations(step), snippets));
+        }
+    }
+
+    private List<String> createSnippets(SnippetKey key) {
+        List<String> snippets = new ArrayList<>();
+        for (SnippetGenerator snippetGenerator : snippetGenerators) {
+            List<String> snippet = snippetGenerator.getSnippet(key.step, "**KEYWORD**", key.snippetType);
+            snippets.addAll(snippet);
+        }
+        return snippets;
+    }
+
     private List<SnippetsSuggestedEvent.Location> locations(PickleStep step) {
         return step.getLocations().stream()
             .map(p -> new SnippetsSuggestedEvent.Location(p.getLine(), p.getLine()))
             .collect(Collectors.toList());
     }
 
-    private List<HookTestStep> createTestStepsForBeforeHooks(List<PickleTag> tags) {
-        return createTestStepsForHooks(tags, glue.getBeforeHooks(), HookType.BEFORE);
+    private HookPlan hookPlanForTags(List<PickleTag> pickleTags) {
+        if (hookPlansVersion != glue.getHooksVersion()) {
+            hookPlansByTags.clear();
+            hookPlansVersion = glue.getHooksVersion();
+        }
+        List<String> tags = pickleTags.stream().map(PickleTag::getName).collect(Collectors.toList());
+        return hookPlansByTags.computeIfAbsent(tags, this::createHookPlan);
     }
 
-    private List<HookTestStep> createTestStepsForAfterHooks(List<PickleTag> tags) {
-        return createTestStepsForHooks(tags, glue.getAfterHooks(), HookType.AFTER);
+    private HookPlan createHookPlan(List<String> tags) {
+        return new HookPlan(
+            createTestStepsForHooks(tags, glue.getBeforeHooks(), HookType.BEFORE),
+            createTestStepsForHooks(tags, glue.getAfterHooks(), HookType.AFTER),
+            createTestStepsForHooks(tags, glue.getBeforeStepHooks(), HookType.BEFORE_STEP),
+            createTestStepsForHooks(tags, glue.getAfterStepHooks(), HookType.AFTER_STEP)
+        );
     }
 
-    private List<HookTestStep> createTestStepsForHooks(List<PickleTag> pickleTags, Collection<CoreHookDefinition> hooks, HookType hookType) {
-        List<String> tags = pickleTags.stream().map(PickleTag::getName).collect(Collectors.toList());
-        return hooks.stream()
+    private List<HookTestStep> createTestStepsForHooks(List<String> tags, Collection<CoreHookDefinition> hooks, HookType hookType) {
+        return unmodifiableList(hooks.stream()
             .filter(hook -> hook.matches(tags))
             .map(hook -> new HookTestStep(hookType, new HookDefinitionMatch(hook)))
-            .collect(Collectors.toList());
-    }
-
-    private List<HookTestStep> createAfterStepHooks(List<PickleTag> tags) {
-        return createTestStepsForHooks(tags, glue.getAfterStepHooks(), HookType.AFTER_STEP);
-    }
-
-    private List<HookTestStep> createBeforeStepHooks(List<PickleTag> tags) {
-        return createTestStepsForHooks(tags, glue.getBeforeStepHooks(), HookType.BEFORE_STEP);
+            .collect(Collectors.toList()));
     }
 
     private void buildBackendWorlds() {
@@ -176,4 +235,56 @@ public final class Runner {
         }
         objectFactory.stop();
     }
+
+    /**
+     * The hooks that apply to pickles with the same tags. Hook test steps
+     * hold no state so they are shared between all steps and pickles
+     * with these tags, until hooks are added to or removed from the glue.
+     */
+    private static final class HookPlan {
+        private final List<HookTestStep> beforeHooks;
+        private final List<HookTestStep> afterHooks;
+        private final List<HookTestStep> beforeStepHooks;
+        private final List<HookTestStep> afterStepHooks;
+
+        HookPlan(List<HookTestStep> beforeHooks, List<HookTestStep> afterHooks, List<HookTestStep> beforeStepHooks, List<HookTestStep> afterStepHooks) {
+            this.beforeHooks = beforeHooks;
+            this.afterHooks = afterHooks;
+            this.beforeStepHooks = beforeStepHooks;
+            this.afterStepHooks = afterStepHooks;
+        }
+    }
+
+    /**
+     * Snippets depend on the step text, the kind of step argument and
+     * the snippet type. Not on the location or content of the step.
+     */
+    private static final class SnippetKey {
+        private final PickleStep step;
+        private final String text;
+        private final Class<?> argumentType;
+        private final SnippetType snippetType;
+
+        SnippetKey(PickleStep step, SnippetType snippetType) {
+            this.step = step;
+            this.text = step.getText();
+            this.argumentType = step.getArgument().isEmpty() ? null : step.getArgument().get(0).getClass();
+            this.snippetType = snippetType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            SnippetKey that = (SnippetKey) o;
+            return text.equals(that.text) &&
+                Objects.equals(argumentType, that.argumentType) &&
+                snippetType == that.snippetType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, argumentType, snippetType);
+        }
+    }
 }
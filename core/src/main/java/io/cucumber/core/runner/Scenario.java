@@ -3,28 +3,33 @@ package io.cucumber.core.runner;
 import io.cucumber.core.event.TestCase;
 import io.cucumber.core.event.*;
 import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.exception.CucumberException;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Collection;
-import java.util.List;
 
-import static java.util.Collections.max;
-import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
 
 class Scenario implements io.cucumber.core.api.Scenario {
 
-    private final List<Result> stepResults = new ArrayList<>();
     private final EventBus bus;
     private final TestCase testCase;
+    private final AttachmentStore attachmentStore;
+    // The first result with the most severe status
+    private Result worstResult;
 
-    Scenario(EventBus bus, io.cucumber.core.event.TestCase testCase) {
+    Scenario(EventBus bus, io.cucumber.core.event.TestCase testCase, AttachmentStore attachmentStore) {
         this.bus = requireNonNull(bus);
         this.testCase = requireNonNull(testCase);
+        this.attachmentStore = requireNonNull(attachmentStore);
     }
 
     void add(Result result) {
-        stepResults.add(result);
+        if (worstResult == null || result.getStatus().compareTo(worstResult.getStatus()) > 0) {
+            worstResult = result;
+        }
     }
 
     @Override
@@ -34,11 +39,11 @@ class Scenario implements io.cucumber.core.api.Scenario {
 
     @Override
     public Status getStatus() {
-        if (stepResults.isEmpty()) {
+        if (worstResult == null) {
             return Status.UNDEFINED;
         }
 
-        return max(stepResults, comparing(Result::getStatus)).getStatus();
+        return worstResult.getStatus();
     }
 
     @Override
@@ -48,16 +53,43 @@ class Scenario implements io.cucumber.core.api.Scenario {
 
     @Override
     public void embed(byte[] data, String mimeType) {
+        if (!bus.hasHandlersFor(EmbedEvent.class)) {
+            return;
+        }
         bus.send(new EmbedEvent(bus.getInstant(), testCase, data, mimeType));
     }
 
     @Override
     public void embed(byte[] data, String mimeType, String name) {
+        if (!bus.hasHandlersFor(EmbedEvent.class)) {
+            return;
+        }
         bus.send(new EmbedEvent(bus.getInstant(), testCase, data, mimeType, name));
     }
 
+    @Override
+    public void embed(Path file, String mimeType, String name) {
+        if (!bus.hasHandlersFor(EmbedEvent.class)) {
+            return;
+        }
+        bus.send(new EmbedEvent(bus.getInstant(), testCase, attachmentStore.store(file), mimeType, name));
+    }
+
+    @Override
+    public void embed(InputStream data, String mimeType, String name) {
+        if (!bus.hasHandlersFor(EmbedEvent.class)) {
+            // The stream is read to its end either way
+            drain(data);
+            return;
+        }
+        bus.send(new EmbedEvent(bus.getInstant(), testCase, attachmentStore.store(data), mimeType, name));
+    }
+
     @Override
     public void write(String text) {
+        if (!bus.hasHandlersFor(WriteEvent.class)) {
+            return;
+        }
         bus.send(new WriteEvent(bus.getInstant(), testCase, text));
     }
 
@@ -81,11 +113,22 @@ class Scenario implements io.cucumber.core.api.Scenario {
         return testCase.getLine();
     }
 
+    private static void drain(InputStream data) {
+        byte[] buffer = new byte[8192];
+        try {
+            while (data.read(buffer) != -1) {
+                // Discard
+            }
+        } catch (IOException e) {
+            throw new CucumberException("Failed to read attachment", e);
+        }
+    }
+
     Throwable getError() {
-        if (stepResults.isEmpty()) {
+        if (worstResult == null) {
             return null;
         }
 
-        return max(stepResults, comparing(Result::getStatus)).getError();
+        return worstResult.getError();
     }
 }
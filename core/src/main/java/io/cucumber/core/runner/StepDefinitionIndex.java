@@ -0,0 +1,320 @@
+package io.cucumber.core.runner;
+
+import io.cucumber.core.stepexpression.StepExpression;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Selects the step definitions that may match a step text.
+ * <p>
+ * Both cucumber expressions and regular expressions must match the whole
+ * step text. So a word in the expression that is surrounded by literal
+ * non-word characters (or the start and end of the expression) must also
+ * appear as a whole word in any matching step text. Each step definition is
+ * indexed by the least common of these words. Step definitions without such
+ * a word are always a candidate.
+ * <p>
+ * The index only narrows down the candidates. Each candidate must still be
+ * matched against the step text.
+ */
+final class StepDefinitionIndex {
+
+    // Marks a part of the expression that could match any text
+    private static final char UNKNOWN = '\uFFFF';
+
+    private final Map<String, List<CoreStepDefinition>> stepDefinitionsByWord = new HashMap<>();
+    private final List<CoreStepDefinition> unindexed = new ArrayList<>();
+
+    StepDefinitionIndex(Collection<CoreStepDefinition> coreStepDefinitions) {
+        Map<CoreStepDefinition, Set<String>> wordsByStepDefinition = new LinkedHashMap<>();
+        Map<String, Integer> frequencyByWord = new HashMap<>();
+        for (CoreStepDefinition coreStepDefinition : coreStepDefinitions) {
+            Set<String> words = requiredWords(coreStepDefinition.getExpression());
+            wordsByStepDefinition.put(coreStepDefinition, words);
+            words.forEach(word -> frequencyByWord.merge(word, 1, Integer::sum));
+        }
+
+        wordsByStepDefinition.forEach((coreStepDefinition, words) -> {
+            String leastCommonWord = null;
+            for (String word : words) {
+                if (leastCommonWord == null || frequencyByWord.get(word) < frequencyByWord.get(leastCommonWord)) {
+                    leastCommonWord = word;
+                }
+            }
+            if (leastCommonWord == null) {
+                unindexed.add(coreStepDefinition);
+            } else {
+                stepDefinitionsByWord.computeIfAbsent(leastCommonWord, word -> new ArrayList<>()).add(coreStepDefinition);
+            }
+        });
+    }
+
+    List<CoreStepDefinition> candidates(String stepText) {
+        List<CoreStepDefinition> candidates = new ArrayList<>(unindexed);
+        if (stepDefinitionsByWord.isEmpty()) {
+            return candidates;
+        }
+        Set<String> seen = new HashSet<>();
+        for (String word : words(stepText)) {
+            if (seen.add(word)) {
+                List<CoreStepDefinition> stepDefinitions = stepDefinitionsByWord.get(word);
+                if (stepDefinitions != null) {
+                    candidates.addAll(stepDefinitions);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    static Set<String> requiredWords(StepExpression expression) {
+        String source = expression.getSource();
+        String literals = expression.isRegularExpression()
+            ? regularExpressionLiterals(source)
+            : cucumberExpressionLiterals(source);
+        if (literals == null) {
+            return Collections.emptySet();
+        }
+
+        Set<String> words = new LinkedHashSet<>();
+        int length = literals.length();
+        int start = 0;
+        while (start < length) {
+            if (!isWordCharacter(literals.charAt(start))) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < length && isWordCharacter(literals.charAt(end))) {
+                end++;
+            }
+            boolean boundedBefore = start == 0 || literals.charAt(start - 1) != UNKNOWN;
+            boolean boundedAfter = end == length || literals.charAt(end) != UNKNOWN;
+            if (boundedBefore && boundedAfter) {
+                words.add(literals.substring(start, end));
+            }
+            start = end;
+        }
+        return words;
+    }
+
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        int length = text.length();
+        int start = 0;
+        while (start < length) {
+            if (!isWordCharacter(text.charAt(start))) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < length && isWordCharacter(text.charAt(end))) {
+                end++;
+            }
+            words.add(text.substring(start, end));
+            start = end;
+        }
+        return words;
+    }
+
+    private static boolean isWordCharacter(char c) {
+        return c != UNKNOWN && (Character.isLetterOrDigit(c) || c == '_');
+    }
+
+    /**
+     * Whitespace separated parts of a cucumber expression that contain
+     * parameters, optional text, alternatives or escapes are replaced by
+     * {@link #UNKNOWN}. Everything else is matched literally.
+     */
+    private static String cucumberExpressionLiterals(String source) {
+        StringBuilder literals = new StringBuilder(source.length());
+        int length = source.length();
+        int start = 0;
+        while (start < length) {
+            char c = source.charAt(start);
+            if (isRegexWhitespace(c)) {
+                literals.append(c);
+                start++;
+                continue;
+            }
+            int end = start;
+            boolean literal = true;
+            while (end < length && !isRegexWhitespace(source.charAt(end))) {
+                if ("{}()/\\".indexOf(source.charAt(end)) >= 0) {
+                    literal = false;
+                }
+                end++;
+            }
+            if (literal) {
+                literals.append(source, start, end);
+            } else {
+                literals.append(UNKNOWN);
+            }
+            start = end;
+        }
+        return literals.toString();
+    }
+
+    /**
+     * Characters in a regular expression that are matched literally, outside
+     * of groups and character classes and not followed by a quantifier, are
+     * kept. Everything else is replaced by {@link #UNKNOWN}. Returns null when
+     * the regular expression can not be understood by this simple scan, e.g.
+     * when it uses alternation or flags.
+     */
+    private static String regularExpressionLiterals(String source) {
+        StringBuilder literals = new StringBuilder(source.length());
+        int length = source.length();
+        int i = source.startsWith("^") ? 1 : 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            switch (c) {
+                case '\\':
+                    if (i + 1 >= length) {
+                        return null;
+                    }
+                    char escaped = source.charAt(i + 1);
+                    if (!Character.isLetterOrDigit(escaped)) {
+                        literals.append(escaped);
+                    } else if ("dDsSwWbBAGZztnrfaehHvVRX".indexOf(escaped) >= 0) {
+                        literals.append(UNKNOWN);
+                    } else {
+                        // Back references, quotes, unicode and other multi character escapes
+                        return null;
+                    }
+                    i += 2;
+                    break;
+                case '[':
+                    i = skipCharacterClass(source, i);
+                    if (i < 0) {
+                        return null;
+                    }
+                    literals.append(UNKNOWN);
+                    break;
+                case '(':
+                    if (source.startsWith("(?", i) && i + 2 < length && !isGroupConstruct(source.charAt(i + 2))) {
+                        // Flags may change how the rest of the expression is matched
+                        return null;
+                    }
+                    i = skipGroup(source, i);
+                    if (i < 0) {
+                        return null;
+                    }
+                    literals.append(UNKNOWN);
+                    break;
+                case '?':
+                case '*':
+                case '+':
+                case '{':
+                    if (literals.length() > 0) {
+                        literals.setCharAt(literals.length() - 1, UNKNOWN);
+                    }
+                    if (c == '{') {
+                        int end = source.indexOf('}', i);
+                        if (end < 0) {
+                            return null;
+                        }
+                        i = end;
+                    }
+                    literals.append(UNKNOWN);
+                    i++;
+                    break;
+                case '$':
+                    if (i != length - 1) {
+                        literals.append(UNKNOWN);
+                    }
+                    i++;
+                    break;
+                case '|':
+                case ')':
+                case ']':
+                case '}':
+                    return null;
+                case '.':
+                case '^':
+                    literals.append(UNKNOWN);
+                    i++;
+                    break;
+                default:
+                    literals.append(c);
+                    i++;
+            }
+        }
+        return literals.toString();
+    }
+
+    private static boolean isGroupConstruct(char c) {
+        // Non capturing groups, look arounds, named and atomic groups
+        return c == ':' || c == '=' || c == '!' || c == '<' || c == '>';
+    }
+
+    private static int skipGroup(String source, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                i = skipCharacterClass(source, i);
+                if (i < 0) {
+                    return -1;
+                }
+                continue;
+            }
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static int skipCharacterClass(String source, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+                // A closing bracket directly after the opening bracket is literal
+                if (source.startsWith("^]", i + 1)) {
+                    i += 2;
+                } else if (source.startsWith("]", i + 1)) {
+                    i += 1;
+                }
+            } else if (c == ']') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+}
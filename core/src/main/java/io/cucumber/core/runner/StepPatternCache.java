@@ -0,0 +1,62 @@
+package io.cucumber.core.runner;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers the pattern of the step definition that matched a step text.
+ * <p>
+ * Each runner has its own glue, but all runners load the same glue. So
+ * the pattern that matched a step text in one runner can be used to look
+ * up the step definition in every other runner. Sharing this cache between
+ * runners avoids matching each step text against all step definitions in
+ * each runner.
+ * <p>
+ * Thread safe. Reads do not lock.
+ */
+public final class StepPatternCache {
+
+    private final Map<String, String> patternByStepText = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    String get(String stepText) {
+        String pattern = patternByStepText.get(stepText);
+        if (pattern == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return pattern;
+    }
+
+    void put(String stepText, String pattern) {
+        patternByStepText.putIfAbsent(stepText, pattern);
+    }
+
+    void clear() {
+        patternByStepText.clear();
+    }
+
+    Map<String, String> getPatternByStepText() {
+        return patternByStepText;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "StepPatternCache{" +
+            "size=" + patternByStepText.size() +
+            ", hits=" + getHitCount() +
+            ", misses=" + getMissCount() +
+            '}';
+    }
+}
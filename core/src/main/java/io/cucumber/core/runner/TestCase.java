@@ -1,6 +1,7 @@
 package io.cucumber.core.runner;
 
 import io.cucumber.core.event.Result;
+import io.cucumber.core.event.Status;
 import io.cucumber.core.event.TestStep;
 import io.cucumber.core.event.TestCaseFinished;
 import io.cucumber.core.event.TestCaseStarted;
@@ -10,7 +11,6 @@ import io.cucumber.core.eventbus.EventBus;
 
 import java.net.URI;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -34,11 +34,13 @@ final class TestCase implements io.cucumber.core.event.TestCase {
         this.dryRun = dryRun;
     }
 
-    void run(EventBus bus) {
+    void run(EventBus bus, AttachmentStore attachmentStore) {
         boolean skipNextStep = this.dryRun;
-        Instant startTimeInstant = bus.getInstant();
-        bus.send(new TestCaseStarted(startTimeInstant, this));
-        Scenario scenario = new Scenario(bus, this);
+        long startTime = bus.getTime();
+        if (bus.hasHandlersFor(TestCaseStarted.class)) {
+            bus.send(new TestCaseStarted(bus.getInstant(startTime), this));
+        }
+        Scenario scenario = new Scenario(bus, this, attachmentStore);
 
         for (HookTestStep before : beforeHooks) {
             skipNextStep |= before.run(this, bus, scenario, dryRun);
@@ -52,8 +54,21 @@ final class TestCase implements io.cucumber.core.event.TestCase {
             after.run(this, bus, scenario, dryRun);
         }
 
-        Instant stopTimeInstant = bus.getInstant();
-        bus.send(new TestCaseFinished(stopTimeInstant, this, new Result(scenario.getStatus(), Duration.between(startTimeInstant, stopTimeInstant), scenario.getError())));
+        long stopTime = bus.getTime();
+        if (bus.hasHandlersFor(TestCaseFinished.class)) {
+            Duration duration = Duration.ofNanos(stopTime - startTime);
+            bus.send(new TestCaseFinished(bus.getInstant(stopTime), this, new Result(scenario.getStatus(), duration, scenario.getError())));
+        }
+    }
+
+    void skip(EventBus bus) {
+        long time = bus.getTime();
+        if (bus.hasHandlersFor(TestCaseStarted.class)) {
+            bus.send(new TestCaseStarted(bus.getInstant(time), this));
+        }
+        if (bus.hasHandlersFor(TestCaseFinished.class)) {
+            bus.send(new TestCaseFinished(bus.getInstant(time), this, new Result(Status.SKIPPED, Duration.ZERO, null)));
+        }
     }
 
     @Override
@@ -9,7 +9,6 @@ import io.cucumber.core.event.TestStepStarted;
 import io.cucumber.core.eventbus.EventBus;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.Arrays;
 
 import static java.time.Duration.ZERO;
@@ -46,8 +45,10 @@ abstract class TestStep implements io.cucumber.core.event.TestStep {
      * @return true iff subsequent skippable steps should be skipped
      */
     boolean run(TestCase testCase, EventBus bus, Scenario scenario, boolean skipSteps) {
-        Instant startTimeMillis = bus.getInstant();
-        bus.send(new TestStepStarted(startTimeMillis, testCase, this));
+        long startTime = bus.getTime();
+        if (bus.hasHandlersFor(TestStepStarted.class)) {
+            bus.send(new TestStepStarted(bus.getInstant(startTime), testCase, this));
+        }
         Status status;
         Throwable error = null;
         try {
@@ -56,10 +57,12 @@ abstract class TestStep implements io.cucumber.core.event.TestStep {
             error = t;
             status = mapThrowableToStatus(t);
         }
-        Instant stopTimeNanos = bus.getInstant();
-        Result result = mapStatusToResult(status, error, Duration.between(startTimeMillis, stopTimeNanos));
+        long stopTime = bus.getTime();
+        Result result = mapStatusToResult(status, error, Duration.ofNanos(stopTime - startTime));
         scenario.add(result);
-        bus.send(new TestStepFinished(stopTimeNanos, testCase, this, result));
+        if (bus.hasHandlersFor(TestStepFinished.class)) {
+            bus.send(new TestStepFinished(bus.getInstant(stopTime), testCase, this, result));
+        }
         return !result.getStatus().is(Status.PASSED);
     }
 
@@ -0,0 +1,304 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.event.EmbedEvent;
+import io.cucumber.core.event.Event;
+import io.cucumber.core.event.EventHandler;
+import io.cucumber.core.event.EventPublisher;
+import io.cucumber.core.event.TestStepFinished;
+import io.cucumber.core.event.TestStepStarted;
+import io.cucumber.core.event.WriteEvent;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.eventbus.OverflowPolicy;
+import io.cucumber.core.logging.Logger;
+import io.cucumber.core.logging.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Event bus shared by the runners of all threads.
+ * <p>
+ * Events are put in a bounded queue and sent to the delegate by a single
+ * dispatcher thread. Runner threads only wait when the queue is full. Events
+ * are dispatched in the order they were put in the queue.
+ * <p>
+ * A plugin can be given a publisher with a queue and thread of its own, so a
+ * slow plugin does not hold up the other handlers. When the queue of a plugin
+ * is full the dispatcher either waits for the plugin or drops the event,
+ * depending on the {@link OverflowPolicy}. Only step, write and embed events
+ * are ever dropped. The dispatcher always waits to deliver the events that
+ * mark the start and end of a run, a test source or a test case.
+ * <p>
+ * Exceptions thrown by handlers are not passed to the sender, but collected
+ * until {@link #flush()}.
+ * <p>
+ * Thread safe.
+ */
+final class AsyncEventBus implements EventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncEventBus.class);
+
+    static final int DEFAULT_CAPACITY = 4096;
+    static final int DEFAULT_PLUGIN_CAPACITY = 1024;
+
+    private final EventBus delegate;
+    private final Dispatcher dispatcher;
+    private final List<PluginEventPublisher> pluginPublishers = new CopyOnWriteArrayList<>();
+    private final List<Throwable> failures = new CopyOnWriteArrayList<>();
+
+    AsyncEventBus(EventBus delegate) {
+        this(delegate, DEFAULT_CAPACITY);
+    }
+
+    AsyncEventBus(EventBus delegate, int capacity) {
+        this.delegate = delegate;
+        this.dispatcher = new Dispatcher("cucumber-event-dispatcher", capacity);
+    }
+
+    @Override
+    public void send(Event event) {
+        if (dispatcher.isCurrentThread()) {
+            // Sent by a handler, the queue could be full
+            delegate.send(event);
+            return;
+        }
+        dispatcher.put(() -> delegate.send(event));
+    }
+
+    @Override
+    public void sendAll(Iterable<Event> events) {
+        for (Event event : events) {
+            send(event);
+        }
+    }
+
+    @Override
+    public boolean hasHandlersFor(Class<? extends Event> eventType) {
+        return delegate.hasHandlersFor(eventType);
+    }
+
+    @Override
+    public <T extends Event> void registerHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+        delegate.registerHandlerFor(eventType, handler);
+    }
+
+    @Override
+    public <T extends Event> void removeHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+        delegate.removeHandlerFor(eventType, handler);
+    }
+
+    @Override
+    public Instant getInstant() {
+        return delegate.getInstant();
+    }
+
+    @Override
+    public long getTime() {
+        return delegate.getTime();
+    }
+
+    @Override
+    public Instant getInstant(long time) {
+        return delegate.getInstant(time);
+    }
+
+    /**
+     * Creates a publisher for a plugin. The handlers registered with the
+     * publisher receive events on a thread of their own.
+     *
+     * @param pluginName     name of the plugin, used in warnings
+     * @param overflowPolicy what to do with events when the queue of the
+     *                       plugin is full
+     * @return a publisher for a plugin
+     */
+    EventPublisher createPluginEventPublisher(String pluginName, OverflowPolicy overflowPolicy) {
+        return createPluginEventPublisher(pluginName, overflowPolicy, DEFAULT_PLUGIN_CAPACITY);
+    }
+
+    EventPublisher createPluginEventPublisher(String pluginName, OverflowPolicy overflowPolicy, int capacity) {
+        PluginEventPublisher publisher = new PluginEventPublisher(pluginName, overflowPolicy, capacity);
+        pluginPublishers.add(publisher);
+        return publisher;
+    }
+
+    /**
+     * Waits until all events sent before have been received by all handlers,
+     * including those of plugins.
+     *
+     * @return the exceptions thrown by handlers since the previous flush
+     * @throws InterruptedException when interrupted while waiting
+     */
+    List<Throwable> flush() throws InterruptedException {
+        dispatcher.flush();
+        for (PluginEventPublisher publisher : pluginPublishers) {
+            publisher.dispatcher.flush();
+        }
+        List<Throwable> thrown = new ArrayList<>(failures);
+        failures.removeAll(thrown);
+        return thrown;
+    }
+
+    /**
+     * Stops the dispatcher threads without waiting for queued events.
+     * Handlers that are receiving an event are interrupted.
+     */
+    void shutdownNow() {
+        dispatcher.shutdownNow();
+        for (PluginEventPublisher publisher : pluginPublishers) {
+            publisher.dispatcher.shutdownNow();
+            long dropped = publisher.dropped.get();
+            if (dropped > 0) {
+                log.warn("Dropped " + dropped + " events for plugin " + publisher.pluginName + " because it could not keep up");
+            }
+        }
+    }
+
+    private final class PluginEventPublisher implements EventPublisher {
+        private final String pluginName;
+        private final OverflowPolicy overflowPolicy;
+        private final Dispatcher dispatcher;
+        private final AtomicLong dropped = new AtomicLong();
+        private final List<Registration<?>> registrations = new CopyOnWriteArrayList<>();
+
+        PluginEventPublisher(String pluginName, OverflowPolicy overflowPolicy, int capacity) {
+            this.pluginName = pluginName;
+            this.overflowPolicy = overflowPolicy;
+            this.dispatcher = new Dispatcher("cucumber-event-dispatcher-" + pluginName, capacity);
+        }
+
+        @Override
+        public <T extends Event> void registerHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+            Registration<T> registration = new Registration<>(eventType, handler, event -> enqueue(event, () -> handler.receive(event)));
+            registrations.add(registration);
+            delegate.registerHandlerFor(eventType, registration.queueingHandler);
+        }
+
+        @Override
+        public <T extends Event> void removeHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+            for (Registration<?> registration : registrations) {
+                if (registration.eventType == eventType && registration.handler == handler) {
+                    registrations.remove(registration);
+                    @SuppressWarnings("unchecked")
+                    EventHandler<T> queueingHandler = (EventHandler<T>) registration.queueingHandler;
+                    delegate.removeHandlerFor(eventType, queueingHandler);
+                    return;
+                }
+            }
+        }
+
+        private void enqueue(Event event, Runnable delivery) {
+            if (overflowPolicy == OverflowPolicy.BLOCK || !isDroppable(event)) {
+                dispatcher.put(delivery);
+            } else if (!dispatcher.offer(delivery) && dropped.getAndIncrement() == 0) {
+                log.warn("Plugin " + pluginName + " can not keep up with the events. Events for this plugin are dropped.");
+            }
+        }
+    }
+
+    private static boolean isDroppable(Event event) {
+        return event instanceof TestStepStarted
+            || event instanceof TestStepFinished
+            || event instanceof WriteEvent
+            || event instanceof EmbedEvent;
+    }
+
+    private static final class Registration<T extends Event> {
+        private final Class<T> eventType;
+        private final EventHandler<T> handler;
+        private final EventHandler<T> queueingHandler;
+
+        Registration(Class<T> eventType, EventHandler<T> handler, EventHandler<T> queueingHandler) {
+            this.eventType = eventType;
+            this.handler = handler;
+            this.queueingHandler = queueingHandler;
+        }
+    }
+
+    /**
+     * Runs tasks from a bounded queue on a thread of its own.
+     */
+    private final class Dispatcher implements Runnable {
+        private final BlockingQueue<Runnable> queue;
+        private final Thread thread;
+        private volatile boolean stopped;
+
+        Dispatcher(String name, int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        boolean isCurrentThread() {
+            return Thread.currentThread() == thread;
+        }
+
+        /**
+         * Puts a task in the queue, waiting for space if needed. Interrupts
+         * do not cause the task to be lost, the interrupt status is
+         * restored afterwards. Tasks put after the dispatcher stopped are
+         * discarded.
+         */
+        void put(Runnable task) {
+            boolean interrupted = false;
+            try {
+                while (!stopped) {
+                    try {
+                        if (queue.offer(task, 100, MILLISECONDS)) {
+                            return;
+                        }
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        boolean offer(Runnable task) {
+            return !stopped && queue.offer(task);
+        }
+
+        void flush() throws InterruptedException {
+            if (stopped) {
+                return;
+            }
+            CountDownLatch flushed = new CountDownLatch(1);
+            put(flushed::countDown);
+            flushed.await();
+        }
+
+        void shutdownNow() {
+            stopped = true;
+            thread.interrupt();
+        }
+
+        @Override
+        public void run() {
+            while (!stopped) {
+                Runnable task;
+                try {
+                    task = queue.take();
+                } catch (InterruptedException e) {
+                    continue;
+                }
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    failures.add(t);
+                }
+            }
+        }
+    }
+}
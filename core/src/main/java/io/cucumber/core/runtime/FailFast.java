@@ -0,0 +1,113 @@
+package io.cucumber.core.runtime;
+
+import gherkin.events.PickleEvent;
+import io.cucumber.core.event.EventHandler;
+import io.cucumber.core.event.EventPublisher;
+import io.cucumber.core.event.TestCase;
+import io.cucumber.core.event.TestCaseFinished;
+import io.cucumber.core.plugin.ConcurrentEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Skips the remaining pickles once a number of test cases failed.
+ * <p>
+ * When the threshold is reached the threads running other pickles are
+ * interrupted. Failures may be reported on another thread than the one that
+ * ran the pickle, so the running pickle of each thread is tracked to spare
+ * the thread that is still finishing the failed pickle. Pickles that start
+ * afterwards are skipped rather than run so every pickle is still reported
+ * to the plugins.
+ * <p>
+ * Thread safe.
+ */
+final class FailFast implements ConcurrentEventListener {
+
+    private final int threshold;
+    private final boolean strict;
+    private final AtomicInteger failures = new AtomicInteger();
+    private final Map<Thread, PickleEvent> runningPickles = new HashMap<>();
+    private final EventHandler<TestCaseFinished> testCaseFinishedHandler = this::handleTestCaseFinished;
+    private boolean triggered;
+
+    FailFast(int threshold, boolean strict) {
+        this.threshold = threshold;
+        this.strict = strict;
+    }
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseFinished.class, testCaseFinishedHandler);
+    }
+
+    /**
+     * Runs the pickle, or skips it when the threshold has been reached.
+     *
+     * @param pickle     the pickle to run
+     * @param runPickle  runs the pickle
+     * @param skipPickle reports the pickle as skipped
+     */
+    void runPickle(PickleEvent pickle, Consumer<PickleEvent> runPickle, Consumer<PickleEvent> skipPickle) {
+        if (!start(pickle)) {
+            skipPickle.accept(pickle);
+            return;
+        }
+        try {
+            runPickle.accept(pickle);
+        } finally {
+            finish();
+        }
+    }
+
+    boolean isTriggered() {
+        synchronized (runningPickles) {
+            return triggered;
+        }
+    }
+
+    private void handleTestCaseFinished(TestCaseFinished event) {
+        if (!event.getResult().getStatus().isOk(strict) && failures.incrementAndGet() == threshold) {
+            trigger(event.getTestCase());
+        }
+    }
+
+    private boolean start(PickleEvent pickle) {
+        synchronized (runningPickles) {
+            // Clear an interrupt meant for the previous pickle on this thread
+            Thread.interrupted();
+            if (triggered) {
+                return false;
+            }
+            runningPickles.put(Thread.currentThread(), pickle);
+            return true;
+        }
+    }
+
+    private void finish() {
+        synchronized (runningPickles) {
+            runningPickles.remove(Thread.currentThread());
+            Thread.interrupted();
+        }
+    }
+
+    private void trigger(TestCase failed) {
+        synchronized (runningPickles) {
+            triggered = true;
+            for (Map.Entry<Thread, PickleEvent> running : runningPickles.entrySet()) {
+                // The failed pickle itself is only tearing down
+                if (!isPickleOf(running.getValue(), failed)) {
+                    running.getKey().interrupt();
+                }
+            }
+        }
+    }
+
+    private static boolean isPickleOf(PickleEvent pickle, TestCase testCase) {
+        return Objects.equals(pickle.uri, testCase.getUri())
+            && Objects.equals(pickle.pickle.getLocations().get(0).getLine(), testCase.getLine());
+    }
+}
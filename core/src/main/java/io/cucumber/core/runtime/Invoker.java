@@ -6,9 +6,8 @@ import io.cucumber.core.reflection.MethodFormat;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -33,8 +32,7 @@ public final class Invoker {
         final Object monitor = new Object();
         final AtomicBoolean done = new AtomicBoolean();
 
-        ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
-        ScheduledFuture<?> timer = executorService.schedule(() -> {
+        ScheduledFuture<?> timer = TimeoutScheduler.INSTANCE.schedule(() -> {
             synchronized (monitor) {
                 if (!done.get()) {
                     executionThread.interrupt();
@@ -54,20 +52,28 @@ public final class Invoker {
         } finally {
             synchronized (monitor) {
                 done.set(true);
-                timer.cancel(true);
-                executorService.shutdownNow();
+                // Don't interrupt the shared timer thread, the timer checks done
+                timer.cancel(false);
                 // Clear the interrupted flag. It may have been set by the timer just before we returned the result.
                 Thread.interrupted();
             }
         }
     }
 
+    /**
+     * @return the number of timeouts that have been scheduled but have not
+     * expired or been cancelled yet
+     */
+    static int getPendingTimeouts() {
+        return TimeoutScheduler.INSTANCE.getQueue().size();
+    }
+
     /**
      * @deprecated timeout has been deprecated in favour of library solutions used by the end user.
      */
     @Deprecated
     public static Object invoke(Object target, Method method, long timeoutMillis, Object... args) throws Throwable {
-        Method targetMethod = targetMethod(target, method);
+        Method targetMethod = targetMethod(target.getClass(), method);
         return timeout(() -> Invoker.invoke(target, targetMethod, args), timeoutMillis);
     }
 
@@ -86,8 +92,7 @@ public final class Invoker {
         }
     }
 
-    private static Method targetMethod(Object target, Method method) throws NoSuchMethodException {
-        Class<?> targetClass = target.getClass();
+    static Method targetMethod(Class<?> targetClass, Method method) throws NoSuchMethodException {
         Class<?> declaringClass = method.getDeclaringClass();
 
         // Immediately return the provided method if the class loaders are the same.
@@ -117,4 +122,24 @@ public final class Invoker {
     interface Callback<T> {
         T call() throws Throwable;
     }
+
+    /**
+     * Schedules the timeouts of all runner threads on a single daemon thread.
+     * Created when the first timeout is used.
+     */
+    private static final class TimeoutScheduler {
+
+        private static final ScheduledThreadPoolExecutor INSTANCE = createScheduler();
+
+        private static ScheduledThreadPoolExecutor createScheduler() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "cucumber-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Most steps finish in time. Don't keep their timers around.
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.event.Event;
+import io.cucumber.core.eventbus.AbstractEventBus;
+import io.cucumber.core.eventbus.EventBus;
+
+import java.time.Instant;
+
+/**
+ * Event bus of a single runner. Passes all events to the shared event bus.
+ */
+final class LocalEventBus extends AbstractEventBus {
+
+    private final EventBus parent;
+
+    LocalEventBus(final EventBus parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public void send(final Event event) {
+        super.send(event);
+        parent.send(event);
+    }
+
+    @Override
+    public boolean hasHandlersFor(Class<? extends Event> eventType) {
+        return super.hasHandlersFor(eventType) || parent.hasHandlersFor(eventType);
+    }
+
+    @Override
+    public Instant getInstant() {
+        return parent.getInstant();
+    }
+
+    @Override
+    public long getTime() {
+        return parent.getTime();
+    }
+
+    @Override
+    public Instant getInstant(long time) {
+        return parent.getInstant(time);
+    }
+}
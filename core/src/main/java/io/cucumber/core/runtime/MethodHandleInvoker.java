@@ -0,0 +1,131 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.exception.CucumberException;
+import io.cucumber.core.reflection.MethodFormat;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Invokes a method through a method handle.
+ * <p>
+ * Unlike {@link Invoker#invoke(Object, Method, Object...)} the method is
+ * made accessible and resolved once. When the target is loaded by a
+ * different class loader than the method, the method of the target class
+ * is resolved once per target class.
+ * <p>
+ * Thread safe.
+ */
+public final class MethodHandleInvoker {
+
+    private static final MethodType SPREAD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final Target target;
+    private final ConcurrentMap<Class<?>, Target> targetsByClass = new ConcurrentHashMap<>();
+
+    public MethodHandleInvoker(Method method) {
+        this.method = method;
+        this.target = new Target(method);
+    }
+
+    public Object invoke(Object target, Object... args) throws Throwable {
+        return targetFor(target.getClass()).invoke(target, args);
+    }
+
+    /**
+     * @deprecated timeout has been deprecated in favour of library solutions used by the end user.
+     */
+    @Deprecated
+    public Object invokeWithTimeout(Object target, long timeoutMillis, Object... args) throws Throwable {
+        Target resolved = targetFor(target.getClass());
+        if (timeoutMillis == 0) {
+            return resolved.invoke(target, args);
+        }
+        return Invoker.timeout(() -> resolved.invoke(target, args), timeoutMillis);
+    }
+
+    private Target targetFor(Class<?> targetClass) {
+        // Immediately return the provided method if the class loaders are the same.
+        if (Objects.equals(targetClass.getClassLoader(), method.getDeclaringClass().getClassLoader())) {
+            return target;
+        }
+        return targetsByClass.computeIfAbsent(targetClass, this::resolveTarget);
+    }
+
+    private Target resolveTarget(Class<?> targetClass) {
+        try {
+            return new Target(Invoker.targetMethod(targetClass, method));
+        } catch (NoSuchMethodException e) {
+            throw new CucumberException("Failed to invoke " + MethodFormat.FULL.format(method) +
+                ", caused by " + e.getClass().getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static final class Target {
+        private final Method method;
+        private final Class<?>[] parameterTypes;
+        private final Class<?>[] boxedParameterTypes;
+        private final MethodHandle handle;
+
+        Target(Method method) {
+            this.method = method;
+            this.parameterTypes = method.getParameterTypes();
+            this.boxedParameterTypes = boxed(parameterTypes);
+            this.handle = spreadHandle(method);
+        }
+
+        Object invoke(Object target, Object[] args) throws Throwable {
+            // The handle would fail with a ClassCastException. Fail like Method.invoke instead.
+            if (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(target)) {
+                throw invocationFailed("object is not an instance of declaring class");
+            }
+            if (args.length != parameterTypes.length) {
+                throw invocationFailed("wrong number of arguments");
+            }
+            for (int i = 0; i < args.length; i++) {
+                if (args[i] == null ? parameterTypes[i].isPrimitive() : !boxedParameterTypes[i].isInstance(args[i])) {
+                    throw invocationFailed("argument type mismatch");
+                }
+            }
+            return (Object) handle.invokeExact(target, args);
+        }
+
+        private CucumberException invocationFailed(String message) {
+            IllegalArgumentException e = new IllegalArgumentException(message);
+            return new CucumberException("Failed to invoke " + MethodFormat.FULL.format(method) +
+                ", caused by " + e.getClass().getName() + ": " + e.getMessage(), e);
+        }
+
+        private static MethodHandle spreadHandle(Method method) {
+            MethodHandle handle;
+            try {
+                method.setAccessible(true);
+                handle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new CucumberException("Failed to invoke " + MethodFormat.FULL.format(method) +
+                    ", caused by " + e.getClass().getName() + ": " + e.getMessage(), e);
+            }
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(SPREAD_TYPE);
+        }
+
+        private static Class<?>[] boxed(Class<?>[] types) {
+            Class<?>[] boxed = new Class<?>[types.length];
+            for (int i = 0; i < types.length; i++) {
+                boxed[i] = MethodType.methodType(types[i]).wrap().returnType();
+            }
+            return boxed;
+        }
+    }
+}
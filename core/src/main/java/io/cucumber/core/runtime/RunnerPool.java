@@ -0,0 +1,124 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.backend.ObjectFactoryServiceLoader;
+import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.exception.CucumberException;
+import io.cucumber.core.runner.AttachmentStore;
+import io.cucumber.core.runner.Options;
+import io.cucumber.core.runner.Runner;
+import io.cucumber.core.runner.StepPatternCache;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Lends runners to the threads that run pickles.
+ * <p>
+ * Unlike the {@link ThreadLocalRunnerSupplier} a runner is not bound to a
+ * thread. A thread checks out a runner for a single pickle and returns it
+ * afterwards. This allows pickles to run on short lived threads, such as
+ * virtual threads, without creating a runner for each thread.
+ * <p>
+ * At most {@code size} runners are created. Each has its own bus, backends
+ * and object factory. Threads wait until a runner is available.
+ * <p>
+ * Thread safe.
+ */
+final class RunnerPool {
+
+    private final Options runnerOptions;
+    private final EventBus sharedEventBus;
+    private final Function<ObjectFactorySupplier, BackendSupplier> backendSupplierFactory;
+    private final ObjectFactoryServiceLoader objectFactoryServiceLoader;
+    private final TypeRegistryConfigurerSupplier typeRegistryConfigurerSupplier;
+    private final StepPatternCache stepPatternCache = new StepPatternCache();
+    private final AttachmentStore attachmentStore = new AttachmentStore();
+    private final Queue<Runner> idle = new ConcurrentLinkedQueue<>();
+    private final Semaphore available;
+
+    /**
+     * @param backendSupplierFactory creates a backend supplier that binds
+     *                               the glue to the object factory of a
+     *                               single runner
+     */
+    RunnerPool(
+        Options runnerOptions,
+        EventBus sharedEventBus,
+        Function<ObjectFactorySupplier, BackendSupplier> backendSupplierFactory,
+        ObjectFactoryServiceLoader objectFactoryServiceLoader,
+        TypeRegistryConfigurerSupplier typeRegistryConfigurerSupplier,
+        int size
+    ) {
+        this.runnerOptions = runnerOptions;
+        this.sharedEventBus = SynchronizedEventBus.synchronize(sharedEventBus);
+        this.backendSupplierFactory = backendSupplierFactory;
+        this.objectFactoryServiceLoader = objectFactoryServiceLoader;
+        this.typeRegistryConfigurerSupplier = typeRegistryConfigurerSupplier;
+        this.available = new Semaphore(size, true);
+    }
+
+    /**
+     * Lends a runner to the action. Waits until a runner is available.
+     *
+     * @param action uses the runner to run or skip a pickle
+     */
+    void withRunner(Consumer<Runner> action) {
+        Runner runner = checkout();
+        try {
+            action.accept(runner);
+        } finally {
+            release(runner);
+        }
+    }
+
+    StepPatternCache getStepPatternCache() {
+        return stepPatternCache;
+    }
+
+    AttachmentStore getAttachmentStore() {
+        return attachmentStore;
+    }
+
+    private Runner checkout() {
+        try {
+            available.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CucumberException(e);
+        }
+        Runner runner = idle.poll();
+        if (runner != null) {
+            return runner;
+        }
+        try {
+            return createRunner();
+        } catch (RuntimeException | Error e) {
+            available.release();
+            throw e;
+        }
+    }
+
+    private void release(Runner runner) {
+        idle.add(runner);
+        available.release();
+    }
+
+    private Runner createRunner() {
+        // Each runner binds its glue to its own object factory
+        ObjectFactory objectFactory = objectFactoryServiceLoader.loadObjectFactory();
+        ObjectFactorySupplier objectFactorySupplier = () -> objectFactory;
+        return new Runner(
+            new LocalEventBus(sharedEventBus),
+            backendSupplierFactory.apply(objectFactorySupplier).get(),
+            objectFactory,
+            typeRegistryConfigurerSupplier.get(),
+            runnerOptions,
+            stepPatternCache,
+            attachmentStore
+        );
+    }
+}
@@ -1,7 +1,14 @@
 package io.cucumber.core.runtime;
 
+import io.cucumber.core.runner.AttachmentStore;
 import io.cucumber.core.runner.Runner;
 
 public interface RunnerSupplier {
     Runner get();
+
+    /**
+     * @return the store for the attachments embedded by the scenarios of the
+     * supplied runners
+     */
+    AttachmentStore getAttachmentStore();
 }
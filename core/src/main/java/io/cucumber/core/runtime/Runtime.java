@@ -11,11 +11,13 @@ import io.cucumber.core.event.TestRunFinished;
 import io.cucumber.core.event.TestRunStarted;
 import io.cucumber.core.event.TestSourceRead;
 import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.eventbus.OverflowPolicy;
 import io.cucumber.core.exception.CompositeCucumberException;
 import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.feature.CucumberFeature;
 import io.cucumber.core.feature.FeatureLoader;
 import io.cucumber.core.filter.Filters;
+import io.cucumber.core.io.CachingResourceLoader;
 import io.cucumber.core.io.ClassFinder;
 import io.cucumber.core.io.MultiLoader;
 import io.cucumber.core.io.ResourceLoader;
@@ -28,20 +30,27 @@ import io.cucumber.core.plugin.ConcurrentEventListener;
 import io.cucumber.core.plugin.Plugin;
 import io.cucumber.core.plugin.PluginFactory;
 import io.cucumber.core.plugin.Plugins;
+import io.cucumber.core.runner.Runner;
 
-import java.time.Clock;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import static java.util.Collections.emptyList;
@@ -61,69 +70,174 @@ public final class Runtime {
     private final ExitStatus exitStatus;
 
     private final RunnerSupplier runnerSupplier;
+    private final RunnerPool runnerPool;
     private final Predicate<PickleEvent> filter;
     private final int limit;
     private final EventBus bus;
     private final FeatureSupplier featureSupplier;
     private final ExecutorService executor;
     private final PickleOrder pickleOrder;
-
+    private final WorkStealingPickleScheduler workStealingScheduler;
+    private final int maxExecutingPickles;
+    private final FailFast failFast;
+    private final AsyncEventBus asyncEventBus;
+    private final Plugins plugins;
 
     private Runtime(final ExitStatus exitStatus,
                     final EventBus bus,
                     final Predicate<PickleEvent> filter,
                     final int limit,
                     final RunnerSupplier runnerSupplier,
+                    final RunnerPool runnerPool,
                     final FeatureSupplier featureSupplier,
                     final ExecutorService executor,
-                    final PickleOrder pickleOrder) {
+                    final PickleOrder pickleOrder,
+                    final WorkStealingPickleScheduler workStealingScheduler,
+                    final int maxExecutingPickles,
+                    final FailFast failFast,
+                    final AsyncEventBus asyncEventBus,
+                    final Plugins plugins) {
         this.bus = bus;
         this.filter = filter;
         this.limit = limit;
         this.runnerSupplier = runnerSupplier;
+        this.runnerPool = runnerPool;
         this.featureSupplier = featureSupplier;
         this.executor = executor;
         this.exitStatus = exitStatus;
         this.pickleOrder = pickleOrder;
+        this.workStealingScheduler = workStealingScheduler;
+        this.maxExecutingPickles = maxExecutingPickles;
+        this.failFast = failFast;
+        this.asyncEventBus = asyncEventBus;
+        this.plugins = plugins;
     }
 
     public void run() {
+        try {
+            runFeatures();
+        } finally {
+            if (asyncEventBus != null) {
+                asyncEventBus.shutdownNow();
+            }
+            // Plugins have received all events
+            runnerSupplier.getAttachmentStore().close();
+            if (runnerPool != null) {
+                runnerPool.getAttachmentStore().close();
+            }
+        }
+    }
+
+    private void runFeatures() {
         final List<CucumberFeature> features = featureSupplier.get();
         bus.send(new TestRunStarted(bus.getInstant()));
         for (CucumberFeature feature : features) {
             bus.send(new TestSourceRead(bus.getInstant(), feature.getUri().toString(), feature.getSource()));
         }
 
-        final List<Future<?>> executingPickles = features.stream()
+        final List<PickleEvent> pickles = features.stream()
             .flatMap(feature -> feature.getPickles().stream())
             .filter(filter)
             .collect(collectingAndThen(toList(),
                 list -> pickleOrder.orderPickleEvents(list).stream()))
             .limit(limit > 0 ? limit : Integer.MAX_VALUE)
-            .map(pickleEvent -> executor.submit(() -> runnerSupplier.get().runPickle(pickleEvent)))
-            .collect(toList());
-
+            .collect(collectingAndThen(toList(), plugins::groupByFeature));
+        plugins.setPlannedPickles(pickles);
+
+        final List<Throwable> thrown = new ArrayList<>();
+        try {
+            if (workStealingScheduler != null) {
+                final BlockingQueue<Future<?>> completedPickles = new LinkedBlockingQueue<>();
+                workStealingScheduler.submit(executor, pickles, this::runPickle, completedPickles::add);
+                for (int i = 0; i < pickles.size(); i++) {
+                    collectResult(completedPickles.take(), thrown);
+                }
+            } else {
+                // Only a few pickles wait for a free thread. Results are
+                // collected as soon as a pickle completes.
+                final CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+                int executingPickles = 0;
+                for (PickleEvent pickleEvent : pickles) {
+                    if (failFast != null && failFast.isTriggered()) {
+                        // Stop dispatching, report the remaining pickles
+                        Runner.skipPickle(bus, pickleEvent);
+                        continue;
+                    }
+                    if (executingPickles == maxExecutingPickles) {
+                        collectResult(completionService.take(), thrown);
+                        executingPickles--;
+                    }
+                    completionService.submit(() -> runPickle(pickleEvent), null);
+                    executingPickles++;
+                }
+                for (; executingPickles > 0; executingPickles--) {
+                    collectResult(completionService.take(), thrown);
+                }
+            }
+            if (asyncEventBus != null) {
+                thrown.addAll(asyncEventBus.flush());
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            throw new CucumberException(e);
+        }
         executor.shutdown();
 
-        List<Throwable> thrown = new ArrayList<>();
-        for (Future executingPickle : executingPickles) {
+        if (runnerPool != null) {
+            log.debug("Step pattern cache " + runnerPool.getStepPatternCache());
+        } else if (runnerSupplier instanceof ThreadLocalRunnerSupplier) {
+            log.debug("Step pattern cache " + ((ThreadLocalRunnerSupplier) runnerSupplier).getStepPatternCache());
+        }
+        // Timeouts are cancelled when their step completes, anything left is leaked
+        log.debug("Pending step timeouts " + Invoker.getPendingTimeouts());
+        throwIfAny(thrown);
+
+        bus.send(new TestRunFinished(bus.getInstant()));
+
+        if (asyncEventBus != null) {
             try {
-                executingPickle.get();
-            } catch (ExecutionException e) {
-                log.error("Exception while executing pickle", e);
-                thrown.add(e.getCause());
+                thrown.addAll(asyncEventBus.flush());
             } catch (InterruptedException e) {
-                executor.shutdownNow();
                 throw new CucumberException(e);
             }
+            throwIfAny(thrown);
         }
+    }
+
+    private static void throwIfAny(List<Throwable> thrown) {
         if (thrown.size() == 1) {
             throw new CucumberException(thrown.get(0));
         } else if (thrown.size() > 1) {
             throw new CompositeCucumberException(thrown);
         }
+    }
+
+    private static void collectResult(Future<?> executedPickle, List<Throwable> thrown) throws InterruptedException {
+        try {
+            executedPickle.get();
+        } catch (ExecutionException e) {
+            log.error("Exception while executing pickle", e);
+            thrown.add(e.getCause());
+        }
+    }
 
-        bus.send(new TestRunFinished(bus.getInstant()));
+    private void runPickle(PickleEvent pickleEvent) {
+        if (failFast != null && failFast.isTriggered()) {
+            // Skipped without a runner, no worlds are built for it
+            Runner.skipPickle(bus, pickleEvent);
+        } else if (runnerPool != null) {
+            runnerPool.withRunner(runner -> runPickle(runner, pickleEvent));
+        } else {
+            runPickle(runnerSupplier.get(), pickleEvent);
+        }
+    }
+
+    private void runPickle(Runner runner, PickleEvent pickleEvent) {
+        if (failFast != null) {
+            failFast.runPickle(pickleEvent, runner::runPickle, pickle -> Runner.skipPickle(bus, pickle));
+        } else {
+            runner.runPickle(pickleEvent);
+        }
     }
 
     public byte exitStatus() {
@@ -136,10 +250,11 @@ public final class Runtime {
 
     public static class Builder {
 
-        private EventBus eventBus = new TimeServiceEventBus(Clock.systemUTC());
+        private EventBus eventBus = TimeServiceEventBus.system();
         private ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         private RuntimeOptions runtimeOptions = RuntimeOptions.defaultOptions();
         private BackendSupplier backendSupplier;
+        private Function<ObjectFactorySupplier, BackendSupplier> backendSupplierFactory;
         private ResourceLoader resourceLoader;
         private FeatureSupplier featureSupplier;
         private List<Plugin> additionalPlugins = emptyList();
@@ -164,6 +279,23 @@ public final class Runtime {
 
         public Builder withBackendSupplier(final BackendSupplier backendSupplier) {
             this.backendSupplier = backendSupplier;
+            this.backendSupplierFactory = null;
+            return this;
+        }
+
+        /**
+         * Like {@link #withBackendSupplier(BackendSupplier)} but the backends
+         * are bound to the object factories of the runners. Required when
+         * runners are pooled for virtual threads, each pooled runner has an
+         * object factory of its own.
+         *
+         * @param backendSupplierFactory creates a backend supplier that binds
+         *                               its glue to the given object factory
+         * @return this builder
+         */
+        public Builder withBackendSupplier(final Function<ObjectFactorySupplier, BackendSupplier> backendSupplierFactory) {
+            this.backendSupplierFactory = backendSupplierFactory;
+            this.backendSupplier = null;
             return this;
         }
 
@@ -187,7 +319,9 @@ public final class Runtime {
                 ? this.resourceLoader
                 : new MultiLoader(this.classLoader);
 
-            final ClassFinder classFinder = new ResourceLoaderClassFinder(resourceLoader, this.classLoader);
+            final ResourceLoader glueResourceLoader = new CachingResourceLoader(resourceLoader);
+
+            final ClassFinder classFinder = new ResourceLoaderClassFinder(glueResourceLoader, this.classLoader);
 
             final ObjectFactoryServiceLoader objectFactoryServiceLoader = new ObjectFactoryServiceLoader(runtimeOptions);
 
@@ -195,9 +329,12 @@ public final class Runtime {
                 ? new ThreadLocalObjectFactorySupplier(objectFactoryServiceLoader)
                 : new SingletonObjectFactorySupplier(objectFactoryServiceLoader);
 
+            final Function<ObjectFactorySupplier, BackendSupplier> backendSupplierFactory = this.backendSupplierFactory != null
+                ? this.backendSupplierFactory
+                : factory -> new BackendServiceLoader(glueResourceLoader, factory);
             final BackendSupplier backendSupplier = this.backendSupplier != null
                 ? this.backendSupplier
-                : new BackendServiceLoader(resourceLoader, objectFactorySupplier);
+                : backendSupplierFactory.apply(objectFactorySupplier);
 
             final Plugins plugins = new Plugins(new PluginFactory(), runtimeOptions);
             for (final Plugin plugin : additionalPlugins) {
@@ -205,19 +342,53 @@ public final class Runtime {
             }
             final ExitStatus exitStatus = new ExitStatus(runtimeOptions);
             plugins.addPlugin(exitStatus);
-            if (runtimeOptions.isMultiThreaded()) {
-                plugins.setSerialEventBusOnEventListenerPlugins(eventBus);
+            final FailFast failFast = runtimeOptions.isFailFast()
+                ? new FailFast(runtimeOptions.getFailFastThreshold(), runtimeOptions.isStrict())
+                : null;
+            if (failFast != null) {
+                plugins.addPlugin(failFast);
+            }
+            // Runner threads hand their events to a dispatcher thread.
+            // Concurrent plugins other than our own get a thread of their own.
+            // Ordered plugins share a thread and never drop events.
+            final AsyncEventBus asyncEventBus = runtimeOptions.isMultiThreaded()
+                ? new AsyncEventBus(eventBus)
+                : null;
+            if (asyncEventBus != null) {
+                plugins.setSerialEventBusOnEventListenerPlugins(
+                    () -> asyncEventBus.createPluginEventPublisher("ordered", OverflowPolicy.BLOCK),
+                    plugin -> plugin == exitStatus || plugin == failFast
+                    ? asyncEventBus
+                    : asyncEventBus.createPluginEventPublisher(plugin.getClass().getSimpleName(), runtimeOptions.getPluginOverflowPolicy()));
             } else {
                 plugins.setEventBusOnEventListenerPlugins(eventBus);
             }
 
             final TypeRegistryConfigurerSupplier typeRegistryConfigurerSupplier = new ScanningTypeRegistryConfigurerSupplier(classFinder, runtimeOptions);
 
+            final ExecutorService virtualThreadExecutor = runtimeOptions.isMultiThreaded() && runtimeOptions.isVirtualThreads()
+                ? newVirtualThreadPerTaskExecutor()
+                : null;
+            if (virtualThreadExecutor != null && this.backendSupplier != null) {
+                virtualThreadExecutor.shutdown();
+                throw new CucumberException("The backends of pooled runners must be bound to the object factory of each runner. " +
+                    "Use withBackendSupplier(Function<ObjectFactorySupplier, BackendSupplier>) with --virtual-threads.");
+            }
+
+            // Virtual threads are not reused, so runners are lent to them rather than bound to them
+            final RunnerPool runnerPool = virtualThreadExecutor != null
+                ? new RunnerPool(runtimeOptions, asyncEventBus,
+                    backendSupplierFactory,
+                    objectFactoryServiceLoader, typeRegistryConfigurerSupplier, runtimeOptions.getThreads())
+                : null;
+
             final RunnerSupplier runnerSupplier = runtimeOptions.isMultiThreaded()
-                ? new ThreadLocalRunnerSupplier(runtimeOptions, eventBus, backendSupplier, objectFactorySupplier, typeRegistryConfigurerSupplier)
+                ? new ThreadLocalRunnerSupplier(runtimeOptions, asyncEventBus, backendSupplier, objectFactorySupplier, typeRegistryConfigurerSupplier)
                 : new SingletonRunnerSupplier(runtimeOptions, eventBus, backendSupplier, objectFactorySupplier, typeRegistryConfigurerSupplier);
 
-            final ExecutorService executor = runtimeOptions.isMultiThreaded()
+            final ExecutorService executor = virtualThreadExecutor != null
+                ? virtualThreadExecutor
+                : runtimeOptions.isMultiThreaded()
                 ? Executors.newFixedThreadPool(runtimeOptions.getThreads(), new CucumberThreadFactory())
                 : new SameThreadExecutorService();
 
@@ -231,8 +402,27 @@ public final class Runtime {
             final Predicate<PickleEvent> filter = new Filters(runtimeOptions);
             final int limit = runtimeOptions.getLimitCount();
             final PickleOrder pickleOrder = runtimeOptions.getPickleOrder();
+            // Keeps every thread busy while the next pickle is submitted
+            final int maxExecutingPickles = 2 * runtimeOptions.getThreads();
+            final WorkStealingPickleScheduler workStealingScheduler = runtimeOptions.isMultiThreaded() && runtimeOptions.isWorkStealing()
+                ? new WorkStealingPickleScheduler(runtimeOptions.getThreads())
+                : null;
+
+            final EventBus bus = asyncEventBus != null ? asyncEventBus : eventBus;
+            return new Runtime(exitStatus, bus, filter, limit, runnerSupplier, runnerPool, featureSupplier, executor, pickleOrder, workStealingScheduler, maxExecutingPickles, failFast, asyncEventBus, plugins);
+        }
+    }
 
-            return new Runtime(exitStatus, eventBus, filter, limit, runnerSupplier, featureSupplier, executor, pickleOrder);
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        // Virtual threads are available from Java 21 on
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (NoSuchMethodException e) {
+            log.warn("Virtual threads are not supported by this JVM. Scenarios will run on platform threads.");
+            return null;
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new CucumberException("Could not create a virtual thread executor", e);
         }
     }
 
@@ -1,8 +1,10 @@
 package io.cucumber.core.runtime;
 
 import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.runner.AttachmentStore;
 import io.cucumber.core.runner.Options;
 import io.cucumber.core.runner.Runner;
+import io.cucumber.core.runner.StepPatternCache;
 
 /**
  * Returns a single unique runner.
@@ -16,6 +18,7 @@ public final class SingletonRunnerSupplier implements RunnerSupplier {
     private final EventBus eventBus;
     private final ObjectFactorySupplier objectFactorySupplier;
     private final TypeRegistryConfigurerSupplier typeRegistryConfigurerSupplier;
+    private final AttachmentStore attachmentStore = new AttachmentStore();
 
 
     public SingletonRunnerSupplier(
@@ -40,13 +43,20 @@ public final class SingletonRunnerSupplier implements RunnerSupplier {
         return runner;
     }
 
+    @Override
+    public AttachmentStore getAttachmentStore() {
+        return attachmentStore;
+    }
+
     private Runner createRunner() {
         return new Runner(
             eventBus,
             backendSupplier.get(),
             objectFactorySupplier.get(),
             typeRegistryConfigurerSupplier.get(),
-            runnerOptions
+            runnerOptions,
+            new StepPatternCache(),
+            attachmentStore
         );
     }
 
@@ -0,0 +1,68 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.event.Event;
+import io.cucumber.core.event.EventHandler;
+import io.cucumber.core.eventbus.EventBus;
+
+import java.time.Instant;
+
+/**
+ * Event bus shared by the runners of all threads.
+ */
+final class SynchronizedEventBus implements EventBus {
+
+    private final EventBus delegate;
+
+    static EventBus synchronize(EventBus eventBus) {
+        if (eventBus instanceof SynchronizedEventBus || eventBus instanceof AsyncEventBus) {
+            return eventBus;
+        }
+
+        return new SynchronizedEventBus(eventBus);
+    }
+
+    private SynchronizedEventBus(final EventBus delegate) {
+        this.delegate = delegate;
+    }
+
+    // The delegate resolves its handlers thread safely
+    @Override
+    public boolean hasHandlersFor(Class<? extends Event> eventType) {
+        return delegate.hasHandlersFor(eventType);
+    }
+
+    @Override
+    public synchronized void send(final Event event) {
+        delegate.send(event);
+    }
+
+    @Override
+    public synchronized void sendAll(final Iterable<Event> events) {
+        delegate.sendAll(events);
+    }
+
+    @Override
+    public synchronized <T extends Event> void registerHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+        delegate.registerHandlerFor(eventType, handler);
+    }
+
+    @Override
+    public synchronized <T extends Event> void removeHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+        delegate.removeHandlerFor(eventType, handler);
+    }
+
+    @Override
+    public Instant getInstant() {
+        return delegate.getInstant();
+    }
+
+    @Override
+    public long getTime() {
+        return delegate.getTime();
+    }
+
+    @Override
+    public Instant getInstant(long time) {
+        return delegate.getInstant(time);
+    }
+}
@@ -5,15 +5,61 @@ import java.time.Instant;
 
 import io.cucumber.core.eventbus.AbstractEventBus;
 
+/**
+ * Event bus that takes its time from a clock.
+ * <p>
+ * The bus created by {@link #system()} measures time with
+ * {@link System#nanoTime()} and derives instants from the time relative to
+ * the instant the bus was created, so all events of a run share one
+ * monotonic time base. A bus created with an explicit clock, e.g. in tests,
+ * uses the instant of that clock in nanoseconds since the epoch as time.
+ */
 public final class TimeServiceEventBus extends AbstractEventBus {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
     private final Clock clock;
+    private final boolean systemClock;
+    private final Instant originInstant;
+    private final long originTime;
 
     public TimeServiceEventBus(Clock clock) {
+        this(clock, false);
+    }
+
+    private TimeServiceEventBus(Clock clock, boolean systemClock) {
         this.clock = clock;
+        this.systemClock = systemClock;
+        this.originTime = systemClock ? System.nanoTime() : 0;
+        this.originInstant = systemClock ? clock.instant() : Instant.EPOCH;
+    }
+
+    /**
+     * @return an event bus measuring monotonic time based on the system clock
+     */
+    public static TimeServiceEventBus system() {
+        return new TimeServiceEventBus(Clock.systemUTC(), true);
     }
 
     @Override
     public Instant getInstant() {
+        if (systemClock) {
+            // Same time base as the instants of steps and test cases
+            return getInstant(getTime());
+        }
         return clock.instant();
     }
+
+    @Override
+    public long getTime() {
+        if (systemClock) {
+            return System.nanoTime();
+        }
+        Instant instant = clock.instant();
+        return instant.getEpochSecond() * NANOS_PER_SECOND + instant.getNano();
+    }
+
+    @Override
+    public Instant getInstant(long time) {
+        return originInstant.plusNanos(time - originTime);
+    }
 }
@@ -0,0 +1,165 @@
+package io.cucumber.core.runtime;
+
+import gherkin.events.PickleEvent;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Runs the pickles of a feature on the same thread where possible.
+ * <p>
+ * Each worker gets a deque of features. A worker runs the pickles of its
+ * features in order. An idle worker first steals whole features from the
+ * back of the deque of other workers. When there are no more features to
+ * steal it steals single pickles from the back of the feature other workers
+ * are running.
+ * <p>
+ * Keeping the pickles of a feature on one thread allows the per thread state
+ * of the runner, such as the object factory and the cached step definition
+ * matches, to be reused.
+ */
+final class WorkStealingPickleScheduler {
+
+    private final int workers;
+
+    WorkStealingPickleScheduler(int workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * Submits workers for the pickles to the executor.
+     *
+     * @param executor     to run the workers on
+     * @param pickles      to run, in order
+     * @param runPickle    runs a single pickle
+     * @param onCompletion receives a completed future for each pickle, in
+     *                     order of completion
+     */
+    void submit(ExecutorService executor, List<PickleEvent> pickles, Consumer<PickleEvent> runPickle, Consumer<Future<?>> onCompletion) {
+        Map<String, Deque<Task>> tasksByFeature = new LinkedHashMap<>();
+        for (PickleEvent pickle : pickles) {
+            Task task = new Task(pickle);
+            task.future.whenComplete((result, throwable) -> onCompletion.accept(task.future));
+            tasksByFeature.computeIfAbsent(pickle.uri, uri -> new ConcurrentLinkedDeque<>()).add(task);
+        }
+
+        List<Worker> workers = new ArrayList<>(this.workers);
+        for (int i = 0; i < this.workers; i++) {
+            workers.add(new Worker(workers, runPickle));
+        }
+
+        // Balance the number of pickles per worker, keeping features together
+        int[] assigned = new int[this.workers];
+        for (Deque<Task> feature : tasksByFeature.values()) {
+            int leastBusy = 0;
+            for (int i = 1; i < assigned.length; i++) {
+                if (assigned[i] < assigned[leastBusy]) {
+                    leastBusy = i;
+                }
+            }
+            workers.get(leastBusy).features.add(feature);
+            assigned[leastBusy] += feature.size();
+        }
+
+        for (Worker worker : workers) {
+            executor.submit(worker);
+        }
+    }
+
+    private static final class Task {
+        private final PickleEvent pickle;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Task(PickleEvent pickle) {
+            this.pickle = pickle;
+        }
+    }
+
+    private static final class Worker implements Runnable {
+        private final Deque<Deque<Task>> features = new ConcurrentLinkedDeque<>();
+        private final List<Worker> workers;
+        private final Consumer<PickleEvent> runPickle;
+        private volatile Deque<Task> current;
+
+        Worker(List<Worker> workers, Consumer<PickleEvent> runPickle) {
+            this.workers = workers;
+            this.runPickle = runPickle;
+        }
+
+        @Override
+        public void run() {
+            Task task;
+            while ((task = next()) != null) {
+                try {
+                    runPickle.accept(task.pickle);
+                    task.future.complete(null);
+                } catch (Throwable t) {
+                    task.future.completeExceptionally(t);
+                }
+            }
+            current = null;
+        }
+
+        private Task next() {
+            while (true) {
+                Deque<Task> current = this.current;
+                if (current != null) {
+                    Task task = current.pollFirst();
+                    if (task != null) {
+                        return task;
+                    }
+                }
+                Deque<Task> feature = features.pollFirst();
+                if (feature == null) {
+                    feature = stealFeature();
+                }
+                if (feature == null) {
+                    this.current = null;
+                    return stealPickle();
+                }
+                this.current = feature;
+            }
+        }
+
+        private Deque<Task> stealFeature() {
+            for (Worker worker : victims()) {
+                Deque<Task> feature = worker.features.pollLast();
+                if (feature != null) {
+                    return feature;
+                }
+            }
+            return null;
+        }
+
+        private Task stealPickle() {
+            for (Worker worker : victims()) {
+                Deque<Task> feature = worker.current;
+                if (feature != null) {
+                    Task task = feature.pollLast();
+                    if (task != null) {
+                        return task;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private List<Worker> victims() {
+            // Start with the next worker so not all idle workers pick the same victim
+            int self = workers.indexOf(this);
+            List<Worker> victims = new ArrayList<>(workers.size() - 1);
+            for (int i = 1; i < workers.size(); i++) {
+                victims.add(workers.get((self + i) % workers.size()));
+            }
+            return victims;
+        }
+    }
+}
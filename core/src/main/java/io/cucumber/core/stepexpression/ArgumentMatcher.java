@@ -16,6 +16,18 @@ public final class ArgumentMatcher {
     }
 
     public List<Argument> argumentsFrom(PickleStep step, Type... types) {
+        return argumentsFrom(step, tableArgument(step), types);
+    }
+
+    /**
+     * @param step          the step to match
+     * @param tableArgument the table of the step as created by
+     *                      {@link #tableArgument(PickleStep)}, shared by all
+     *                      step definitions tried for the step
+     * @param types         the types of the arguments
+     * @return the matched arguments or null if the step does not match
+     */
+    public List<Argument> argumentsFrom(PickleStep step, List<List<String>> tableArgument, Type... types) {
         if (step.getArgument().isEmpty()) {
             return expression.match(step.getText(), types);
         }
@@ -27,10 +39,22 @@ public final class ArgumentMatcher {
         }
 
         if (argument instanceof PickleTable) {
-            return expression.match(step.getText(), PickleTableConverter.toTable((PickleTable) argument), types);
+            return expression.match(step.getText(), tableArgument, types);
         }
 
         throw new IllegalStateException("Argument was neither PickleString nor PickleTable");
     }
 
+    /**
+     * @param step a step
+     * @return an unmodifiable view of the table of the step, or null if the
+     * step has no table
+     */
+    public static List<List<String>> tableArgument(PickleStep step) {
+        if (!step.getArgument().isEmpty() && step.getArgument().get(0) instanceof PickleTable) {
+            return PickleTableConverter.toTable((PickleTable) step.getArgument().get(0));
+        }
+        return null;
+    }
+
 }
@@ -4,8 +4,9 @@ import gherkin.pickles.PickleCell;
 import gherkin.pickles.PickleRow;
 import gherkin.pickles.PickleTable;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
 final class PickleTableConverter {
 
@@ -13,16 +14,60 @@ final class PickleTableConverter {
 
     }
 
+    /**
+     * Creates an unmodifiable view of the table. Rows and cells are not
+     * copied but read from the pickle table.
+     *
+     * @param pickleTable the table to view
+     * @return the cells of the table, row by row, with empty cells as null
+     */
     static List<List<String>> toTable(PickleTable pickleTable) {
-        List<List<String>> table = new ArrayList<>();
-        for (PickleRow pickleRow : pickleTable.getRows()) {
-            List<String> row = new ArrayList<>();
-            for (PickleCell pickleCell : pickleRow.getCells()) {
-                String value = pickleCell.getValue();
-                row.add(value.isEmpty() ? null : value);
+        return new TableView(pickleTable.getRows());
+    }
+
+    private static final class TableView extends AbstractList<List<String>> implements RandomAccess {
+        private final List<PickleRow> rows;
+        private final List<String>[] rowViews;
+
+        @SuppressWarnings("unchecked")
+        TableView(List<PickleRow> rows) {
+            this.rows = rows;
+            this.rowViews = new List[rows.size()];
+        }
+
+        @Override
+        public List<String> get(int index) {
+            // Racy but safe, a row view has no state of its own
+            List<String> rowView = rowViews[index];
+            if (rowView == null) {
+                rowView = new RowView(rows.get(index).getCells());
+                rowViews[index] = rowView;
             }
-            table.add(row);
+            return rowView;
+        }
+
+        @Override
+        public int size() {
+            return rowViews.length;
+        }
+    }
+
+    private static final class RowView extends AbstractList<String> implements RandomAccess {
+        private final List<PickleCell> cells;
+
+        RowView(List<PickleCell> cells) {
+            this.cells = cells;
+        }
+
+        @Override
+        public String get(int index) {
+            String value = cells.get(index).getValue();
+            return value.isEmpty() ? null : value;
+        }
+
+        @Override
+        public int size() {
+            return cells.size();
         }
-        return table;
     }
 }
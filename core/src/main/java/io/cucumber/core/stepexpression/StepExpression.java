@@ -1,6 +1,7 @@
 package io.cucumber.core.stepexpression;
 
 import io.cucumber.cucumberexpressions.Expression;
+import io.cucumber.cucumberexpressions.RegularExpression;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -30,6 +31,10 @@ public final class StepExpression {
         return expression.getSource();
     }
 
+    public boolean isRegularExpression() {
+        return expression instanceof RegularExpression;
+    }
+
     public List<Argument> match(String text, List<List<String>> tableArgument, Type... types) {
         List<Argument> list = match(text, types);
 
@@ -8,6 +8,7 @@ import io.cucumber.datatable.DataTableTypeRegistryTableConverter;
 
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.function.Function;
 
 import static java.util.Collections.singletonList;
 
@@ -53,20 +54,21 @@ public final class StepExpressionFactory {
             throw registerTypeInConfiguration(expressionString, e);
         }
 
+        TableConversion conversion = new TableConversion(tableOrDocStringType, transpose);
+
         RawTableTransformer<?> tableTransform = (List<List<String>> raw) -> {
             DataTable dataTable = DataTable.create(raw, StepExpressionFactory.this.tableConverter);
-            Type targetType = tableOrDocStringType.resolve();
-            return dataTable.convert(Object.class.equals(targetType) ? DataTable.class : targetType, transpose);
+            return conversion.resolve().convertTable.apply(dataTable);
         };
 
         DocStringTransformer<?> docStringTransform = (String docString) -> {
-            Type targetType = tableOrDocStringType.resolve();
-            if (Object.class.equals(targetType)) {
+            ResolvedConversion resolved = conversion.resolve();
+            if (Object.class.equals(resolved.targetType)) {
                 return docString;
             }
 
             List<List<String>> raw = singletonList(singletonList(docString));
-            return DataTable.create(raw, StepExpressionFactory.this.tableConverter).convert(targetType, transpose);
+            return DataTable.create(raw, StepExpressionFactory.this.tableConverter).convert(resolved.targetType, transpose);
         };
         return new StepExpression(expression, docStringTransform, tableTransform);
     }
@@ -80,6 +82,54 @@ public final class StepExpressionFactory {
         ), e);
     }
 
+    /**
+     * Resolves the type a table or doc string is converted to once per step
+     * expression rather than for every invocation of the step. Tables for
+     * untyped or {@link DataTable} parameters are passed through.
+     * <p>
+     * The table converter still looks up the registered table type for each
+     * conversion. That lookup is internal to the data table library and can
+     * not be cached here.
+     * <p>
+     * A failed resolution is not cached. It fails again on the next
+     * invocation.
+     */
+    private static final class TableConversion {
+        private final TypeResolver typeResolver;
+        private final boolean transpose;
+        private volatile ResolvedConversion resolved;
+
+        TableConversion(TypeResolver typeResolver, boolean transpose) {
+            this.typeResolver = typeResolver;
+            this.transpose = transpose;
+        }
+
+        ResolvedConversion resolve() {
+            ResolvedConversion resolved = this.resolved;
+            if (resolved == null) {
+                resolved = new ResolvedConversion(typeResolver.resolve(), transpose);
+                this.resolved = resolved;
+            }
+            return resolved;
+        }
+    }
+
+    private static final class ResolvedConversion {
+        private final Type targetType;
+        private final Function<DataTable, Object> convertTable;
+
+        ResolvedConversion(Type targetType, boolean transpose) {
+            this.targetType = targetType;
+            if (!transpose && (Object.class.equals(targetType) || DataTable.class.equals(targetType))) {
+                // Nothing to convert
+                this.convertTable = dataTable -> dataTable;
+            } else {
+                Type tableType = Object.class.equals(targetType) ? DataTable.class : targetType;
+                this.convertTable = dataTable -> dataTable.convert(tableType, transpose);
+            }
+        }
+    }
+
     private static final class ResolvedType implements TypeResolver {
 
         private final Type type;
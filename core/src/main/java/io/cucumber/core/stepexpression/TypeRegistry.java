@@ -12,16 +12,23 @@ import java.util.Locale;
 
 public final class TypeRegistry implements io.cucumber.core.api.TypeRegistry {
 
+    private final Locale locale;
+
     private final ParameterTypeRegistry parameterTypeRegistry;
 
     private final DataTableTypeRegistry dataTableTypeRegistry;
 
 
     public TypeRegistry(Locale locale) {
+        this.locale = locale;
         parameterTypeRegistry = new ParameterTypeRegistry(locale);
         dataTableTypeRegistry = new DataTableTypeRegistry(locale);
     }
 
+    public Locale locale() {
+        return locale;
+    }
+
     public ParameterTypeRegistry parameterTypeRegistry() {
         return parameterTypeRegistry;
     }
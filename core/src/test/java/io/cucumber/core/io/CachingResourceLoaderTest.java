@@ -0,0 +1,45 @@
+package io.cucumber.core.io;
+
+import io.cucumber.core.feature.FeaturePath;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingResourceLoaderTest {
+
+    @Test
+    public void loads_resources_once_per_path_and_suffix() {
+        ResourceLoader delegate = mock(ResourceLoader.class);
+        FileResourceLoader fileResourceLoader = new FileResourceLoader();
+        when(delegate.resources(any(), any())).then(invocation -> fileResourceLoader.resources(invocation.getArgument(0), invocation.getArgument(1)));
+        ResourceLoader resourceLoader = new CachingResourceLoader(delegate);
+        URI uri = FeaturePath.parse("src/test/resources/io/cucumber/core");
+
+        assertThat(toList(resourceLoader.resources(uri, ".properties")).size(), is(equalTo(3)));
+        assertThat(toList(resourceLoader.resources(uri, ".properties")).size(), is(equalTo(3)));
+        resourceLoader.resources(uri, ".feature");
+
+        verify(delegate, times(1)).resources(uri, ".properties");
+        verify(delegate, times(1)).resources(uri, ".feature");
+    }
+
+    private <T> List<T> toList(Iterable<T> it) {
+        List<T> result = new ArrayList<T>();
+        for (T t : it) {
+            result.add(t);
+        }
+        return result;
+    }
+
+}
@@ -1,7 +1,11 @@
 package io.cucumber.core.options;
 
 import gherkin.events.PickleEvent;
+import gherkin.pickles.Pickle;
+import gherkin.pickles.PickleLocation;
+import gherkin.pickles.PickleStep;
 import io.cucumber.core.event.EventPublisher;
+import io.cucumber.core.eventbus.OverflowPolicy;
 import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.io.Resource;
 import io.cucumber.core.io.ResourceLoader;
@@ -26,11 +30,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Pattern;
@@ -82,6 +90,15 @@ public class RuntimeOptionsTest {
         };
     }
 
+    private static Pickle pickleWithSteps(int steps) {
+        List<PickleLocation> locations = singletonList(new PickleLocation(1, 1));
+        List<PickleStep> pickleSteps = new ArrayList<>();
+        for (int i = 0; i < steps; i++) {
+            pickleSteps.add(new PickleStep("step", Collections.emptyList(), locations));
+        }
+        return new Pickle("name", "en", pickleSteps, Collections.emptyList(), locations);
+    }
+
     private static void mockFileResource(ResourceLoader resourceLoader, String path, String feature)
         throws IOException {
         Resource resource = mock(Resource.class);
@@ -271,6 +288,121 @@ public class RuntimeOptionsTest {
         assertThat(options.isWip(), is(false));
     }
 
+    @Test
+    public void assigns_no_step_index() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse("--no-step-index")
+            .build();
+        assertThat(options.isStepIndex(), is(false));
+    }
+
+    @Test
+    public void assigns_work_stealing() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse("--threads", "4", "--work-stealing")
+            .build();
+        assertThat(options.isWorkStealing(), is(true));
+    }
+
+    @Test
+    public void default_no_work_stealing() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse()
+            .build();
+        assertThat(options.isWorkStealing(), is(false));
+    }
+
+    @Test
+    public void assigns_virtual_threads() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse("--threads", "100", "--virtual-threads")
+            .build();
+        assertThat(options.isVirtualThreads(), is(true));
+    }
+
+    @Test
+    public void default_fail_fast() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse()
+            .build();
+        assertThat(options.isFailFast(), is(false));
+    }
+
+    @Test
+    public void assigns_fail_fast() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse("--fail-fast", "path/bar.feature")
+            .build();
+        assertThat(options.isFailFast(), is(true));
+        assertThat(options.getFailFastThreshold(), is(1));
+        assertThat(options.getFeaturePaths(), contains(uri("file:path/bar.feature")));
+    }
+
+    @Test
+    public void assigns_fail_fast_threshold() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse("--fail-fast", "3")
+            .build();
+        assertThat(options.getFailFastThreshold(), is(3));
+    }
+
+    @Test
+    public void assigns_no_fail_fast() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse("--fail-fast", "--no-fail-fast")
+            .build();
+        assertThat(options.isFailFast(), is(false));
+    }
+
+    @Test
+    public void default_plugin_overflow_policy() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse()
+            .build();
+        assertThat(options.getPluginOverflowPolicy(), is(OverflowPolicy.BLOCK));
+    }
+
+    @Test
+    public void assigns_plugin_overflow_policy() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse("--plugin-overflow", "drop")
+            .build();
+        assertThat(options.getPluginOverflowPolicy(), is(OverflowPolicy.DROP));
+    }
+
+    @Test
+    public void fail_on_unknown_plugin_overflow_policy() {
+        Executable testMethod = () -> new CommandlineOptionsParser()
+            .parse("--plugin-overflow", "wait")
+            .build();
+        CucumberException actualThrown = assertThrows(CucumberException.class, testMethod);
+        assertThat(actualThrown.getMessage(), is(equalTo("Unrecognized plugin overflow policy wait")));
+    }
+
+    @Test
+    public void default_event_buffer_budget() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse()
+            .build();
+        assertThat(options.getEventBufferBudget(), is(64L * 1024 * 1024));
+    }
+
+    @Test
+    public void assigns_event_buffer_budget() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse("--event-buffer-budget", "512")
+            .build();
+        assertThat(options.getEventBufferBudget(), is(512L * 1024 * 1024));
+    }
+
+    @Test
+    public void default_step_index() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse()
+            .build();
+        assertThat(options.isStepIndex(), is(true));
+    }
+
     @Test
     public void name_without_spaces_is_preserved() {
         RuntimeOptions options = new CommandlineOptionsParser()
@@ -687,13 +819,42 @@ public class RuntimeOptionsTest {
             .orderPickleEvents(Arrays.asList(a, b, c)), contains(c, a, b));
     }
 
+    @Test
+    public void ensure_ordertype_longest_with_timing_file_is_used() throws IOException {
+        Path timingFile = Files.createTempFile("timing", ".txt");
+        try {
+            Files.write(timingFile, asList("a:1 100", "b:1 300", "c:1 200"));
+            RuntimeOptions options = new CommandlineOptionsParser()
+                .parse("--order", "longest:" + timingFile)
+                .build();
+            PickleEvent a = new PickleEvent("a", pickleWithSteps(1));
+            PickleEvent b = new PickleEvent("b", pickleWithSteps(1));
+            PickleEvent c = new PickleEvent("c", pickleWithSteps(1));
+            assertThat(options.getPickleOrder()
+                .orderPickleEvents(Arrays.asList(a, b, c)), contains(b, c, a));
+        } finally {
+            Files.delete(timingFile);
+        }
+    }
+
+    @Test
+    public void ensure_ordertype_longest_without_timing_file_uses_steps() {
+        RuntimeOptions options = new CommandlineOptionsParser()
+            .parse("--order", "longest")
+            .build();
+        PickleEvent a = new PickleEvent("a", pickleWithSteps(1));
+        PickleEvent b = new PickleEvent("b", pickleWithSteps(3));
+        assertThat(options.getPickleOrder()
+            .orderPickleEvents(Arrays.asList(a, b)), contains(b, a));
+    }
+
     @Test
     public void ensure_invalid_ordertype_is_not_allowed() {
         Executable testMethod = () -> new CommandlineOptionsParser()
             .parse("--order", "invalid")
             .build();
         CucumberException actualThrown = assertThrows(CucumberException.class, testMethod);
-        assertThat("Unexpected exception message", actualThrown.getMessage(), is(equalTo("Invalid order. Must be either reverse, random or random:<long>")));
+        assertThat("Unexpected exception message", actualThrown.getMessage(), is(equalTo("Invalid order. Must be either reverse, random, random:<long>, longest or longest:<file>")));
     }
 
     @Test
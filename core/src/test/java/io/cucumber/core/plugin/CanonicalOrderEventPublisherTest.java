@@ -0,0 +1,129 @@
+package io.cucumber.core.plugin;
+
+import gherkin.events.PickleEvent;
+import io.cucumber.core.event.Event;
+import io.cucumber.core.event.Result;
+import io.cucumber.core.event.Status;
+import io.cucumber.core.event.TestCase;
+import io.cucumber.core.event.TestCaseFinished;
+import io.cucumber.core.event.TestCaseStarted;
+import io.cucumber.core.event.TestRunFinished;
+import io.cucumber.core.event.TestRunStarted;
+import io.cucumber.core.event.TestSourceRead;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class CanonicalOrderEventPublisherTest {
+
+    private final CanonicalOrderEventPublisher publisher = new CanonicalOrderEventPublisher(Long.MAX_VALUE);
+    private final List<Event> published = new ArrayList<>();
+
+    private final TestCase feature1Case1 = createTestCase("feature1", 1);
+    private final TestCase feature1Case2 = createTestCase("feature1", 9);
+    private final TestCase feature2Case1 = createTestCase("feature2", 1);
+
+    @BeforeEach
+    public void listen() {
+        publisher.registerHandlerFor(Event.class, published::add);
+    }
+
+    @Test
+    public void publishes_events_that_are_not_about_test_cases_immediately() {
+        Event runStarted = new TestRunStarted(Instant.now());
+        Event sourceRead = new TestSourceRead(Instant.now(), "feature1", "source");
+
+        publisher.handle(runStarted);
+        publisher.handle(sourceRead);
+
+        assertThat(published, is(equalTo(asList(runStarted, sourceRead))));
+    }
+
+    @Test
+    public void publishes_events_of_feature_in_canonical_order_when_its_pickles_finished() {
+        publisher.setPlannedPickles(asList(pickle("feature1"), pickle("feature1"), pickle("feature2")));
+        Event case2Started = new TestCaseStarted(Instant.now(), feature1Case2);
+        Event case2Finished = finished(feature1Case2);
+        Event case1Started = new TestCaseStarted(Instant.now(), feature1Case1);
+        Event case1Finished = finished(feature1Case1);
+
+        publisher.handle(case2Started);
+        publisher.handle(case2Finished);
+        publisher.handle(case1Started);
+        assertThat(published, is(empty()));
+
+        publisher.handle(case1Finished);
+        assertThat(published, is(equalTo(asList(case1Started, case1Finished, case2Started, case2Finished))));
+    }
+
+    @Test
+    public void publishes_features_in_canonical_order() {
+        publisher.setPlannedPickles(asList(pickle("feature1"), pickle("feature2")));
+        Event feature2Started = new TestCaseStarted(Instant.now(), feature2Case1);
+        Event feature2Finished = finished(feature2Case1);
+        Event feature1Started = new TestCaseStarted(Instant.now(), feature1Case1);
+        Event feature1Finished = finished(feature1Case1);
+
+        publisher.handle(feature2Started);
+        publisher.handle(feature2Finished);
+        assertThat(published, is(empty()));
+
+        publisher.handle(feature1Started);
+        publisher.handle(feature1Finished);
+        assertThat(published, is(equalTo(asList(feature1Started, feature1Finished, feature2Started, feature2Finished))));
+    }
+
+    @Test
+    public void publishes_unplanned_events_when_test_run_finished() {
+        Event started = new TestCaseStarted(Instant.now(), feature1Case1);
+        Event finished = finished(feature1Case1);
+        Event runFinished = new TestRunFinished(Instant.now());
+
+        publisher.handle(started);
+        publisher.handle(finished);
+        assertThat(published, is(empty()));
+
+        publisher.handle(runFinished);
+        assertThat(published, is(equalTo(asList(started, finished, runFinished))));
+    }
+
+    private static TestCase createTestCase(String uri, int line) {
+        TestCase testCase = mock(TestCase.class);
+        given(testCase.getUri()).willReturn(uri);
+        given(testCase.getLine()).willReturn(line);
+        return testCase;
+    }
+
+    private static Event finished(TestCase testCase) {
+        return new TestCaseFinished(Instant.now(), testCase, new Result(Status.PASSED, Duration.ZERO, null));
+    }
+
+    @Test
+    public void groups_pickles_by_feature_in_the_order_features_are_released() {
+        PickleEvent feature2Pickle1 = pickle("feature2");
+        PickleEvent feature1Pickle1 = pickle("feature1");
+        PickleEvent feature2Pickle2 = pickle("feature2");
+        PickleEvent feature1Pickle2 = pickle("feature1");
+
+        List<PickleEvent> grouped = CanonicalOrderEventPublisher.groupByFeature(
+            asList(feature2Pickle1, feature1Pickle1, feature2Pickle2, feature1Pickle2));
+
+        assertThat(grouped, is(equalTo(asList(feature1Pickle1, feature1Pickle2, feature2Pickle1, feature2Pickle2))));
+    }
+
+    private static PickleEvent pickle(String uri) {
+        return new PickleEvent(uri, null);
+    }
+}
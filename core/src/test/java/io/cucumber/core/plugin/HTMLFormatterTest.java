@@ -11,11 +11,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.Answer;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
@@ -27,7 +30,9 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static io.cucumber.core.runner.TestHelper.createEmbedFileHookAction;
 import static io.cucumber.core.runner.TestHelper.createEmbedHookAction;
+import static io.cucumber.core.runner.TestHelper.createEmbedStreamHookAction;
 import static io.cucumber.core.runner.TestHelper.createWriteHookAction;
 import static io.cucumber.core.runner.TestHelper.feature;
 import static io.cucumber.core.runner.TestHelper.result;
@@ -675,6 +680,48 @@ public class HTMLFormatterTest {
             formatterOutput);
     }
 
+    @Test
+    public void writes_embedded_files_and_streams_to_the_report_directory() throws Throwable {
+        outputDir = TempDir.createTempDirectory().toURI().toURL();
+        Path screenshot = Files.createTempFile("screenshot", ".png");
+        screenshot.toFile().deleteOnExit();
+        Files.write(screenshot, "image from file".getBytes(US_ASCII));
+        CucumberFeature feature = feature("path/test.feature", "" +
+            "Feature: feature name\n" +
+            "  Scenario: scenario name\n" +
+            "    Given first step\n");
+        features.add(feature);
+        stepsToResult.put("first step", result("passed"));
+        stepsToLocation.put("first step", "path/step_definitions.java:3");
+        hooks.add(TestHelper.hookEntry("after", result("passed")));
+        hooks.add(TestHelper.hookEntry("after", result("passed")));
+        hookActions.add(createEmbedFileHookAction(screenshot, "image/png", "From file"));
+        hookActions.add(createEmbedStreamHookAction("image from stream".getBytes(US_ASCII), "image/png", "From stream"));
+        stepDuration = ofMillis(1L);
+
+        runFeaturesWithFormatter(new HTMLFormatter(outputDir));
+
+        String reportJs = readReportJs();
+        assertAll("Checking embedded files",
+            () -> assertContains("formatter.embedding(\"image/png\", \"embedded0.png\", \"From file\");", reportJs),
+            () -> assertContains("formatter.embedding(\"image/png\", \"embedded1.png\", \"From stream\");", reportJs),
+            () -> assertThat(readReportFile("embedded0.png"), is(equalTo("image from file"))),
+            () -> assertThat(readReportFile("embedded1.png"), is(equalTo("image from stream")))
+        );
+    }
+
+    private String readReportFile(String name) throws IOException {
+        try (InputStream in = new URL(outputDir, name).openStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), US_ASCII);
+        }
+    }
+
     private String readReportJs() throws IOException {
         InputStream reportJsStream = new URL(outputDir, "report.js").openStream();
         try (BufferedReader br = new BufferedReader(new InputStreamReader(reportJsStream, UTF_8))) {
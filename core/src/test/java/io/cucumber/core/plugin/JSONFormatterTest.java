@@ -1,5 +1,6 @@
 package io.cucumber.core.plugin;
 
+import gherkin.deps.net.iharder.Base64;
 import gherkin.pickles.PickleTag;
 import io.cucumber.core.backend.Glue;
 import io.cucumber.core.backend.HookDefinition;
@@ -22,15 +23,20 @@ import org.mockito.stubbing.Answer;
 import java.io.File;
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Scanner;
 
+import static io.cucumber.core.runner.TestHelper.createEmbedFileHookAction;
 import static io.cucumber.core.runner.TestHelper.createEmbedHookAction;
+import static io.cucumber.core.runner.TestHelper.createEmbedStreamHookAction;
 import static io.cucumber.core.runner.TestHelper.createWriteHookAction;
 import static io.cucumber.core.runner.TestHelper.result;
 import static java.time.Duration.ofMillis;
@@ -931,6 +937,103 @@ public class JSONFormatterTest {
         assertThat(formatterOutput, sameJSONAs(expected));
     }
 
+    @Test
+    public void should_handle_embedded_file_from_a_hook() throws IOException {
+        // Larger than a single chunk of encoded data
+        byte[] data = new byte[100 * 1024 + 1];
+        new Random(42).nextBytes(data);
+        Path file = Files.createTempFile("screenshot", ".png");
+        file.toFile().deleteOnExit();
+        Files.write(file, data);
+        hookActions.add(createEmbedFileHookAction(file, "image/png", "screenshot"));
+
+        String formatterOutput = runFeatureWithEmbeddingHook();
+
+        assertThat(formatterOutput, sameJSONAs(expectedEmbedding("image/png", Base64.encodeBytes(data), "screenshot")));
+    }
+
+    @Test
+    public void should_handle_embedded_stream_from_a_hook() {
+        hookActions.add(createEmbedStreamHookAction(new byte[]{1, 2, 3, 4}, "mime-type;base64", "someEmbedding"));
+
+        String formatterOutput = runFeatureWithEmbeddingHook();
+
+        assertThat(formatterOutput, sameJSONAs(expectedEmbedding("mime-type;base64", "AQIDBA==", "someEmbedding")));
+    }
+
+    private String runFeatureWithEmbeddingHook() {
+        CucumberFeature feature = TestHelper.feature("path/test.feature", "" +
+            "Feature: Banana party\n" +
+            "\n" +
+            "  Scenario: Monkey eats bananas\n" +
+            "    Given there are bananas\n");
+        features.add(feature);
+        stepsToResult.put("there are bananas", result("passed"));
+        stepsToLocation.put("there are bananas", "StepDefs.there_are_bananas()");
+        hooks.add(TestHelper.hookEntry("before", result("passed")));
+        hookLocations.add("Hooks.before_hook_1()");
+        stepDuration = ofMillis(1L);
+        return runFeaturesWithFormatter();
+    }
+
+    private static String expectedEmbedding(String mimeType, String data, String name) {
+        return "" +
+            "[\n" +
+            "  {\n" +
+            "    \"id\": \"banana-party\",\n" +
+            "    \"uri\": \"file:path/test.feature\",\n" +
+            "    \"keyword\": \"Feature\",\n" +
+            "    \"name\": \"Banana party\",\n" +
+            "    \"line\": 1,\n" +
+            "    \"description\": \"\",\n" +
+            "    \"elements\": [\n" +
+            "      {\n" +
+            "        \"id\": \"banana-party;monkey-eats-bananas\",\n" +
+            "        \"keyword\": \"Scenario\",\n" +
+            "        \"start_timestamp\": \"1970-01-01T00:00:00.000Z\",\n" +
+            "        \"name\": \"Monkey eats bananas\",\n" +
+            "        \"line\": 3,\n" +
+            "        \"description\": \"\",\n" +
+            "        \"type\": \"scenario\",\n" +
+            "        \"before\": [\n" +
+            "          {\n" +
+            "            \"match\": {\n" +
+            "              \"location\": \"Hooks.before_hook_1()\"\n" +
+            "            },\n" +
+            "            \"embeddings\": [\n" +
+            "              {\n" +
+            "                \"mime_type\": \"" + mimeType + "\",\n" +
+            "                \"data\": \"" + data + "\",\n" +
+            "                \"name\": \"" + name + "\"\n" +
+            "              }\n" +
+            "            ],\n" +
+            "            \"result\": {\n" +
+            "              \"status\": \"passed\",\n" +
+            "              \"duration\": 1000000\n" +
+            "            }\n" +
+            "          }\n" +
+            "        ],\n" +
+            "        \"steps\": [\n" +
+            "          {\n" +
+            "            \"keyword\": \"Given \",\n" +
+            "            \"name\": \"there are bananas\",\n" +
+            "            \"line\": 4,\n" +
+            "            \"match\": {\n" +
+            "              \"location\": \"StepDefs.there_are_bananas()\"\n" +
+            "            },\n" +
+            "            \"result\": {\n" +
+            "              \"status\": \"passed\",\n" +
+            "              \"duration\": 1000000\n" +
+            "            }\n" +
+            "          }\n" +
+            "        ]\n" +
+            "      }\n" +
+            "    ],\n" +
+            "    \"tags\": []\n" +
+            "  }\n" +
+            "]";
+    }
+
     @Test
     public void should_format_scenario_with_a_step_with_a_doc_string() {
         CucumberFeature feature = TestHelper.feature("path/test.feature", "" +
@@ -79,4 +79,28 @@ public class PluginsTest {
         verify(rootEventPublisher, times(1)).registerHandlerFor(eq(Event.class), ArgumentMatchers.any());
     }
 
+    @Test
+    public void shouldRegisterCanonicalOrderEventPublisherWithSuppliedEventPublisher() {
+        RuntimeOptions runtimeOptions = RuntimeOptions.defaultOptions();
+        Plugins plugins = new Plugins(pluginFactory, runtimeOptions);
+        EventListener plugin = mock(EventListener.class);
+        ConcurrentEventListener concurrentPlugin = mock(ConcurrentEventListener.class);
+        plugins.addPlugin(plugin);
+        plugins.addPlugin(concurrentPlugin);
+        EventPublisher serialEventPublisher = mock(EventPublisher.class);
+        plugins.setSerialEventBusOnEventListenerPlugins(() -> serialEventPublisher, listener -> rootEventPublisher);
+        verify(serialEventPublisher, times(1)).registerHandlerFor(eq(Event.class), ArgumentMatchers.any());
+        verify(concurrentPlugin, times(1)).setEventPublisher(rootEventPublisher);
+    }
+
+    @Test
+    public void shouldNotSupplyEventPublisherWithoutNonConcurrentEventListeners() {
+        RuntimeOptions runtimeOptions = RuntimeOptions.defaultOptions();
+        Plugins plugins = new Plugins(pluginFactory, runtimeOptions);
+        plugins.addPlugin(mock(ConcurrentEventListener.class));
+        plugins.setSerialEventBusOnEventListenerPlugins(() -> {
+            throw new AssertionError("Not expected to be supplied");
+        }, listener -> rootEventPublisher);
+    }
+
 }
@@ -0,0 +1,104 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.event.Attachment;
+import io.cucumber.core.event.EmbedEvent;
+import io.cucumber.core.event.Event;
+import io.cucumber.core.event.TestCase;
+import io.cucumber.core.event.TestCaseStarted;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.time.Instant;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class SpillingEmbedBufferTest {
+
+    private final TestCase testCase = mock(TestCase.class);
+    private final SpillingEmbedBuffer buffer = new SpillingEmbedBuffer(4);
+
+    @AfterEach
+    public void close() {
+        buffer.close();
+    }
+
+    @Test
+    public void buffers_other_events_as_is() {
+        Event event = new TestCaseStarted(Instant.now(), testCase);
+
+        assertThat(buffer.buffer(event), is(sameInstance(event)));
+        assertThat(buffer.release(event), is(sameInstance(event)));
+    }
+
+    @Test
+    public void keeps_data_within_budget_on_the_heap() {
+        EmbedEvent event = embed(new byte[]{1, 2, 3, 4});
+
+        Event buffered = buffer.buffer(event);
+
+        assertThat(buffered, is(sameInstance(event)));
+        assertThat(buffer.release(buffered), is(sameInstance(event)));
+    }
+
+    @Test
+    public void writes_data_over_budget_to_disk() {
+        EmbedEvent first = embed(new byte[]{1, 2, 3});
+        EmbedEvent second = embed(new byte[]{4, 5});
+        EmbedEvent third = embed(new byte[]{6, 7, 8});
+
+        Event bufferedFirst = buffer.buffer(first);
+        EmbedEvent bufferedSecond = (EmbedEvent) buffer.buffer(second);
+        EmbedEvent bufferedThird = (EmbedEvent) buffer.buffer(third);
+
+        assertThat(bufferedFirst, is(sameInstance(first)));
+        assertThat(bufferedSecond.getData().length, is(0));
+        assertThat(bufferedThird.getData().length, is(0));
+
+        EmbedEvent releasedThird = (EmbedEvent) buffer.release(bufferedThird);
+        EmbedEvent releasedSecond = (EmbedEvent) buffer.release(bufferedSecond);
+        assertThat(releasedThird.getData(), is(equalTo(new byte[]{6, 7, 8})));
+        assertThat(releasedThird.getMimeType(), is(equalTo("image/png")));
+        assertThat(releasedThird.getName(), is(equalTo("screenshot")));
+        assertThat(releasedThird.getTestCase(), is(sameInstance(testCase)));
+        assertThat(releasedThird.getInstant(), is(equalTo(third.getInstant())));
+        assertThat(releasedSecond.getData(), is(equalTo(new byte[]{4, 5})));
+        assertThat(buffer.release(bufferedFirst), is(sameInstance(first)));
+    }
+
+    @Test
+    public void keeps_data_on_the_heap_again_after_release() {
+        EmbedEvent first = embed(new byte[]{1, 2, 3});
+        buffer.release(buffer.buffer(first));
+
+        EmbedEvent second = embed(new byte[]{4, 5, 6});
+        assertThat(buffer.buffer(second), is(sameInstance(second)));
+
+        EmbedEvent third = embed(new byte[]{7, 8});
+        assertThat(buffer.buffer(third), is(not(sameInstance(third))));
+    }
+
+    @Test
+    public void keeps_data_stored_in_files_where_it_is() {
+        Attachment attachment = mock(Attachment.class);
+        given(attachment.getPath()).willReturn(Paths.get("attachment-1"));
+        given(attachment.getSize()).willReturn(1024L);
+        EmbedEvent event = new EmbedEvent(Instant.now(), testCase, attachment, "image/png", "screenshot");
+
+        assertThat(buffer.buffer(event), is(sameInstance(event)));
+        assertThat(buffer.release(event), is(sameInstance(event)));
+
+        EmbedEvent withinBudget = embed(new byte[]{1, 2, 3, 4});
+        assertThat(buffer.buffer(withinBudget), is(sameInstance(withinBudget)));
+    }
+
+    private EmbedEvent embed(byte[] data) {
+        return new EmbedEvent(Instant.now(), testCase, data, "image/png", "screenshot");
+    }
+}
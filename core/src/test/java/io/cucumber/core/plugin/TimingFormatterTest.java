@@ -0,0 +1,66 @@
+package io.cucumber.core.plugin;
+
+import io.cucumber.core.feature.CucumberFeature;
+import io.cucumber.core.order.PickleDurations;
+import io.cucumber.core.runner.TestHelper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsMapContaining.hasEntry;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class TimingFormatterTest {
+
+    private final CucumberFeature feature = TestHelper.feature("path/test.feature", "" +
+        "Feature: feature name\n" +
+        "  Scenario: short scenario\n" +
+        "    Given first step\n" +
+        "  Scenario: long scenario\n" +
+        "    Given first step\n" +
+        "    And second step\n");
+
+    @Test
+    public void should_report_duration_of_each_scenario() {
+        String formatterOutput = runFeatureWithFormatter();
+
+        assertThat(formatterOutput, is(equalTo("" +
+            "file:path/test.feature:2 1000\n" +
+            "file:path/test.feature:4 2000\n")));
+    }
+
+    @Test
+    public void should_write_durations_readable_as_pickle_durations() throws IOException {
+        Path timingFile = Files.createTempFile("timing", ".txt");
+        try {
+            Files.write(timingFile, runFeatureWithFormatter().getBytes(UTF_8));
+
+            Map<String, Duration> durations = PickleDurations.load(timingFile);
+
+            assertThat(durations, hasEntry("file:path/test.feature:2", Duration.ofSeconds(1)));
+            assertThat(durations, hasEntry("file:path/test.feature:4", Duration.ofSeconds(2)));
+        } finally {
+            Files.delete(timingFile);
+        }
+    }
+
+    private String runFeatureWithFormatter() {
+        final StringBuilder report = new StringBuilder();
+
+        TestHelper.builder()
+            .withFormatterUnderTest(new TimingFormatter(report))
+            .withFeatures(feature)
+            .withTimeServiceIncrement(Duration.ofMillis(1000))
+            .build()
+            .run();
+
+        return report.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package io.cucumber.core.runner;
+
+import io.cucumber.core.event.Attachment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+public class AttachmentStoreTest {
+
+    private final AttachmentStore store = new AttachmentStore();
+
+    @AfterEach
+    public void close() {
+        store.close();
+    }
+
+    @Test
+    public void stores_file() throws IOException {
+        Path file = Files.createTempFile("attachment", ".bin");
+        file.toFile().deleteOnExit();
+        Files.write(file, new byte[]{1, 2, 3});
+
+        Attachment attachment = store.store(file);
+        Files.delete(file);
+
+        assertThat(attachment.getSize(), is(3L));
+        assertThat(Files.readAllBytes(attachment.getPath()), is(equalTo(new byte[]{1, 2, 3})));
+    }
+
+    @Test
+    public void stores_copy_of_file() throws IOException {
+        Path file = Files.createTempFile("attachment", ".bin");
+        file.toFile().deleteOnExit();
+        Files.write(file, new byte[]{1, 2, 3});
+
+        Attachment attachment = store.store(file);
+        Files.write(file, new byte[]{4, 5});
+
+        assertThat(Files.readAllBytes(attachment.getPath()), is(equalTo(new byte[]{1, 2, 3})));
+    }
+
+    @Test
+    public void stores_stream() throws IOException {
+        Attachment attachment = store.store(new ByteArrayInputStream(new byte[]{4, 5}));
+
+        assertThat(attachment.getSize(), is(2L));
+        try (InputStream in = attachment.getInputStream()) {
+            assertThat(in.read(), is(4));
+            assertThat(in.read(), is(5));
+            assertThat(in.read(), is(-1));
+        }
+    }
+
+    @Test
+    public void removes_attachments_when_closed() {
+        Attachment attachment = store.store(new ByteArrayInputStream(new byte[]{4, 5}));
+        Path directory = attachment.getPath().getParent();
+
+        store.close();
+
+        assertThat(Files.exists(attachment.getPath()), is(false));
+        assertThat(Files.exists(directory), is(false));
+    }
+}
@@ -16,6 +16,7 @@ import io.cucumber.core.backend.HookDefinition;
 import io.cucumber.core.backend.ParameterInfo;
 import io.cucumber.core.backend.ParameterTypeDefinition;
 import io.cucumber.core.backend.StepDefinition;
+import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.runtime.TimeServiceEventBus;
 import io.cucumber.core.stepexpression.TypeRegistry;
 import io.cucumber.cucumberexpressions.ParameterByTypeTransformer;
@@ -34,7 +35,10 @@ import java.util.Map;
 
 import static java.util.Collections.singletonList;
 import static java.util.Locale.ENGLISH;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
@@ -203,6 +207,32 @@ public class CachingGlueTest {
         assertThat(pickleStepDefinitionMatch2.getStepDefinition(), is(equalTo(stepDefinition1)));
     }
 
+    @Test
+    public void shares_step_pattern_cache_between_glues() {
+        StepPatternCache stepPatternCache = new StepPatternCache();
+        EventBus bus = new TimeServiceEventBus(Clock.systemUTC());
+        CachingGlue glue1 = new CachingGlue(bus, true, stepPatternCache);
+        CachingGlue glue2 = new CachingGlue(bus, true, stepPatternCache);
+
+        StepDefinition stepDefinition1 = new MockedStepDefinition("^pattern1");
+        StepDefinition stepDefinition2 = new MockedStepDefinition("^pattern1");
+        glue1.addStepDefinition(stepDefinition1);
+        glue2.addStepDefinition(stepDefinition2);
+        glue1.prepareGlue(typeRegistry);
+        glue2.prepareGlue(typeRegistry);
+
+        String featurePath = "someFeature.feature";
+        PickleStepDefinitionMatch match1 = glue1.stepDefinitionMatch(featurePath, getPickleStep("pattern1"));
+        assertThat(match1.getStepDefinition(), is(equalTo(stepDefinition1)));
+        assertThat(stepPatternCache.getMissCount(), is(equalTo(1L)));
+        assertThat(stepPatternCache.getHitCount(), is(equalTo(0L)));
+
+        PickleStepDefinitionMatch match2 = glue2.stepDefinitionMatch(featurePath, getPickleStep("pattern1"));
+        assertThat(match2.getStepDefinition(), is(equalTo(stepDefinition2)));
+        assertThat(stepPatternCache.getMissCount(), is(equalTo(1L)));
+        assertThat(stepPatternCache.getHitCount(), is(equalTo(1L)));
+    }
+
     @Test
     public void returns_match_from_cache_for_step_with_table() {
         StepDefinition stepDefinition1 = new MockedStepDefinition("^pattern1");
@@ -291,6 +321,46 @@ public class CachingGlueTest {
     }
 
 
+    @Test
+    public void remembers_undefined_step_until_scenario_scoped_step_definitions_change() {
+        String featurePath = "someFeature.feature";
+        PickleStep pickleStep1 = getPickleStep("pattern1");
+
+        glue.addStepDefinition(new MockedStepDefinition("^pattern2"));
+        glue.prepareGlue(typeRegistry);
+
+        assertThat(glue.stepDefinitionMatch(featurePath, pickleStep1), is(nullValue()));
+        assertThat(glue.getUndefinedStepTexts(), contains("pattern1"));
+
+        glue.removeScenarioScopedGlue();
+        glue.prepareGlue(typeRegistry);
+        assertThat(glue.getUndefinedStepTexts(), contains("pattern1"));
+
+        glue.removeScenarioScopedGlue();
+        StepDefinition stepDefinition = new MockedScenarioScopedStepDefinition("^pattern1");
+        glue.addStepDefinition(stepDefinition);
+        glue.prepareGlue(typeRegistry);
+
+        PickleStepDefinitionMatch match = glue.stepDefinitionMatch(featurePath, pickleStep1);
+        assertThat(match.getStepDefinition(), is(equalTo(stepDefinition)));
+    }
+
+    @Test
+    public void forgets_undefined_step_after_adding_global_glue() {
+        String featurePath = "someFeature.feature";
+        PickleStep pickleStep1 = getPickleStep("pattern1");
+
+        glue.prepareGlue(typeRegistry);
+        assertThat(glue.stepDefinitionMatch(featurePath, pickleStep1), is(nullValue()));
+
+        StepDefinition stepDefinition = new MockedStepDefinition("^pattern1");
+        glue.addStepDefinition(stepDefinition);
+        glue.prepareGlue(typeRegistry);
+
+        PickleStepDefinitionMatch match = glue.stepDefinitionMatch(featurePath, pickleStep1);
+        assertThat(match.getStepDefinition(), is(equalTo(stepDefinition)));
+    }
+
     @Test
     public void returns_no_match_after_evicting_scenario_scoped() {
         String featurePath = "someFeature.feature";
@@ -314,6 +384,50 @@ public class CachingGlueTest {
         assertThat(pickleStepDefinitionMatch2, nullValue());
     }
 
+    @Test
+    public void reuses_compiled_step_definitions_across_scenarios() {
+        StepDefinition stepDefinition = new MockedStepDefinition("^pattern1");
+        glue.addStepDefinition(stepDefinition);
+        glue.prepareGlue(typeRegistry);
+        CoreStepDefinition coreStepDefinition = glue.getStepDefinitionsByPattern().get(stepDefinition.getPattern());
+
+        glue.removeScenarioScopedGlue();
+        glue.addStepDefinition(new MockedScenarioScopedStepDefinition("^pattern2"));
+        glue.prepareGlue(new TypeRegistry(ENGLISH));
+
+        assertThat(glue.getStepDefinitionsByPattern().get(stepDefinition.getPattern()), is(sameInstance(coreStepDefinition)));
+        assertThat(glue.getTypeRegistry(), is(sameInstance(typeRegistry)));
+    }
+
+    @Test
+    public void recompiles_step_definitions_after_adding_global_glue() {
+        StepDefinition stepDefinition1 = new MockedStepDefinition("^pattern1");
+        glue.addStepDefinition(stepDefinition1);
+        glue.prepareGlue(typeRegistry);
+        CoreStepDefinition coreStepDefinition = glue.getStepDefinitionsByPattern().get(stepDefinition1.getPattern());
+
+        glue.removeScenarioScopedGlue();
+        StepDefinition stepDefinition2 = new MockedStepDefinition("^pattern2");
+        glue.addStepDefinition(stepDefinition2);
+        glue.prepareGlue(new TypeRegistry(ENGLISH));
+
+        assertThat(glue.getStepDefinitionsByPattern().get(stepDefinition1.getPattern()), is(not(sameInstance(coreStepDefinition))));
+        assertThat(glue.stepDefinitionMatch("someFeature.feature", getPickleStep("pattern2")).getStepDefinition(), is(equalTo(stepDefinition2)));
+    }
+
+    @Test
+    public void throws_duplicate_error_on_scenario_scoped_dupe_of_global_stepdef() {
+        glue.addStepDefinition(new MockedStepDefinition("hello"));
+        glue.prepareGlue(typeRegistry);
+        glue.removeScenarioScopedGlue();
+
+        glue.addStepDefinition(new MockedScenarioScopedStepDefinition("hello"));
+        assertThrows(
+            DuplicateStepDefinitionException.class,
+            () -> glue.prepareGlue(typeRegistry)
+        );
+    }
+
     private static PickleStep getPickleStepWithSingleCellTable(String stepText, String cell) {
         return new PickleStep(stepText, Collections.singletonList(new PickleTable(singletonList(new PickleRow(singletonList(new PickleCell(mock(PickleLocation.class), cell)))))), Collections.emptyList());
     }
@@ -339,6 +453,20 @@ public class CachingGlueTest {
         checkAmbiguousCalled(featurePath);
     }
 
+    @Test
+    public void throws_ambiguous_steps_def_exception_when_many_patterns_match_without_step_index() {
+        glue = new CachingGlue(new TimeServiceEventBus(Clock.systemUTC()), false);
+        StepDefinition stepDefinition1 = new MockedStepDefinition("pattern1");
+        StepDefinition stepDefinition2 = new MockedStepDefinition("^pattern2");
+        StepDefinition stepDefinition3 = new MockedStepDefinition("^pattern[1,3]");
+        glue.addStepDefinition(stepDefinition1);
+        glue.addStepDefinition(stepDefinition2);
+        glue.addStepDefinition(stepDefinition3);
+        glue.prepareGlue(typeRegistry);
+
+        checkAmbiguousCalled("someFeature.feature");
+    }
+
     private void checkAmbiguousCalled(String featurePath) {
         boolean ambiguousCalled = false;
         try {
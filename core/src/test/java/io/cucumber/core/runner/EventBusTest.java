@@ -1,10 +1,12 @@
 package io.cucumber.core.runner;
 
+import io.cucumber.core.event.Event;
 import io.cucumber.core.event.EventHandler;
 import io.cucumber.core.event.PickleStepTestStep;
 import io.cucumber.core.event.Result;
 import io.cucumber.core.event.Status;
 import io.cucumber.core.event.TestCase;
+import io.cucumber.core.event.TestCaseEvent;
 import io.cucumber.core.event.TestStepFinished;
 import io.cucumber.core.event.TestStepStarted;
 import io.cucumber.core.eventbus.EventBus;
@@ -14,9 +16,14 @@ import org.junit.jupiter.api.Test;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
 
 import static java.time.Duration.ZERO;
 import static java.time.Instant.EPOCH;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -52,4 +59,70 @@ public class EventBusTest {
         verify(handler, never()).receive(event);
     }
 
+    @Test
+    public void has_handlers_for_the_events_registered_for() {
+        EventHandler<TestStepFinished> handler = mock(EventHandler.class);
+
+        EventBus bus = new TimeServiceEventBus(Clock.fixed(Instant.EPOCH, ZoneId.of("UTC")));
+        bus.registerHandlerFor(TestStepFinished.class, handler);
+
+        assertThat(bus.hasHandlersFor(TestStepFinished.class), is(true));
+        assertThat(bus.hasHandlersFor(TestStepStarted.class), is(false));
+
+        bus.removeHandlerFor(TestStepFinished.class, handler);
+        assertThat(bus.hasHandlersFor(TestStepFinished.class), is(false));
+    }
+
+    @Test
+    public void has_handlers_for_all_events_when_registered_for_any_event() {
+        EventBus bus = new TimeServiceEventBus(Clock.fixed(Instant.EPOCH, ZoneId.of("UTC")));
+        bus.registerHandlerFor(Event.class, mock(EventHandler.class));
+
+        assertThat(bus.hasHandlersFor(TestStepStarted.class), is(true));
+    }
+
+    @Test
+    public void handlers_receive_the_events_of_sub_types_of_the_type_they_registered_for() {
+        EventHandler<TestCaseEvent> handler = mock(EventHandler.class);
+        TestStepStarted event = new TestStepStarted(EPOCH, mock(TestCase.class), mock(PickleStepTestStep.class));
+
+        EventBus bus = new TimeServiceEventBus(Clock.fixed(Instant.EPOCH, ZoneId.of("UTC")));
+        bus.registerHandlerFor(TestCaseEvent.class, handler);
+        bus.send(event);
+
+        verify(handler).receive(event);
+        assertThat(bus.hasHandlersFor(TestStepStarted.class), is(true));
+    }
+
+    @Test
+    public void handlers_for_all_events_receive_events_before_handlers_for_the_type() {
+        List<String> received = new ArrayList<>();
+        TestStepStarted event = new TestStepStarted(EPOCH, mock(TestCase.class), mock(PickleStepTestStep.class));
+
+        EventBus bus = new TimeServiceEventBus(Clock.fixed(Instant.EPOCH, ZoneId.of("UTC")));
+        bus.registerHandlerFor(TestStepStarted.class, e -> received.add("step started"));
+        bus.registerHandlerFor(TestCaseEvent.class, e -> received.add("test case event"));
+        bus.registerHandlerFor(Event.class, e -> received.add("event"));
+        bus.send(event);
+
+        assertThat(received, contains("event", "test case event", "step started"));
+    }
+
+    @Test
+    public void handlers_registered_while_sending_receive_the_next_event() {
+        List<String> received = new ArrayList<>();
+        TestStepStarted event = new TestStepStarted(EPOCH, mock(TestCase.class), mock(PickleStepTestStep.class));
+
+        EventBus bus = new TimeServiceEventBus(Clock.fixed(Instant.EPOCH, ZoneId.of("UTC")));
+        bus.registerHandlerFor(TestStepStarted.class, e -> {
+            received.add("first");
+            bus.registerHandlerFor(TestStepStarted.class, e2 -> received.add("second"));
+        });
+        bus.send(event);
+        assertThat(received, contains("first"));
+
+        bus.send(event);
+        assertThat(received, contains("first", "first", "second"));
+    }
+
 }
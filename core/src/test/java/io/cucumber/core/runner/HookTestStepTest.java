@@ -37,12 +37,14 @@ public class HookTestStepTest {
         false
     );
     private final EventBus bus = mock(EventBus.class);
-    private final Scenario scenario = new Scenario(bus, testCase);
+    private final Scenario scenario = new Scenario(bus, testCase, new AttachmentStore());
     private HookTestStep step = new HookTestStep(HookType.AFTER_STEP, definitionMatch);
 
     @BeforeEach
     public void init() {
         Mockito.when(bus.getInstant()).thenReturn(Instant.now());
+        Mockito.when(bus.hasHandlersFor(Mockito.any())).thenReturn(true);
+        Mockito.when(bus.getInstant(Mockito.anyLong())).thenReturn(Instant.now());
     }
 
     @Test
@@ -29,6 +29,7 @@ import static io.cucumber.core.event.Status.SKIPPED;
 import static java.time.Duration.ZERO;
 import static java.time.Duration.ofMillis;
 import static java.time.Instant.ofEpochMilli;
+import static java.time.Instant.ofEpochSecond;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
@@ -38,11 +39,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -52,7 +55,7 @@ public class PickleStepTestStepTest {
     private PickleEvent pickle = mock(PickleEvent.class);
     private final TestCase testCase = new TestCase(Collections.<PickleStepTestStep>emptyList(), Collections.<HookTestStep>emptyList(), Collections.<HookTestStep>emptyList(), pickle, false);
     private final EventBus bus = mock(EventBus.class);
-    private final Scenario scenario = new Scenario(bus, testCase);
+    private final Scenario scenario = new Scenario(bus, testCase, new AttachmentStore());
     private final PickleStepDefinitionMatch definitionMatch = mock(PickleStepDefinitionMatch.class);
     private CoreHookDefinition afterHookDefinition = mock(CoreHookDefinition.class);
     private CoreHookDefinition beforeHookDefinition = mock(CoreHookDefinition.class);
@@ -69,6 +72,8 @@ public class PickleStepTestStepTest {
     @BeforeEach
     public void init() {
         Mockito.when(bus.getInstant()).thenReturn(Instant.now());
+        Mockito.when(bus.hasHandlersFor(Mockito.any())).thenReturn(true);
+        Mockito.when(bus.getInstant(Mockito.anyLong())).thenReturn(Instant.now());
     }
 
     @Test
@@ -81,6 +86,16 @@ public class PickleStepTestStepTest {
         order.verify(bus).send(isA(TestStepFinished.class));
     }
 
+    @Test
+    public void run_does_not_send_events_without_handlers() throws Throwable {
+        when(bus.hasHandlersFor(any())).thenReturn(false);
+        step.run(testCase, bus, scenario, false);
+
+        verify(definitionMatch).runStep(scenario);
+        verify(bus, never()).send(any());
+        assertThat(scenario.getStatus(), is(equalTo(Status.PASSED)));
+    }
+
     @Test
     public void run_does_dry_run_step_when_skip_steps_is_true() throws Throwable {
         step.run(testCase, bus, scenario, true);
@@ -240,7 +255,8 @@ public class PickleStepTestStepTest {
     @Test
     public void step_execution_time_is_measured() {
         TestStep step = new PickleStepTestStep("uri", mock(PickleStep.class), definitionMatch);
-        when(bus.getInstant()).thenReturn(ofEpochMilli(234L), ofEpochMilli(1234L));
+        when(bus.getTime()).thenReturn(234_000_000L, 1234_000_000L);
+        when(bus.getInstant(anyLong())).thenAnswer(invocation -> ofEpochSecond(0, invocation.getArgument(0)));
         step.run(testCase, bus, scenario, false);
 
         ArgumentCaptor<TestCaseEvent> captor = forClass(TestCaseEvent.class);
@@ -11,10 +11,18 @@ import io.cucumber.core.backend.Backend;
 import io.cucumber.core.backend.Glue;
 import io.cucumber.core.backend.HookDefinition;
 import io.cucumber.core.backend.ObjectFactory;
+import io.cucumber.core.event.Event;
+import io.cucumber.core.event.SnippetsSuggestedEvent;
+import io.cucumber.core.event.Status;
+import io.cucumber.core.event.TestCaseFinished;
+import io.cucumber.core.event.TestCaseStarted;
+import io.cucumber.core.event.TestStep;
+import io.cucumber.core.event.TestStepStarted;
 import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.options.RuntimeOptions;
 import io.cucumber.core.options.RuntimeOptionsBuilder;
 import io.cucumber.core.runtime.TimeServiceEventBus;
+import io.cucumber.core.snippets.Snippet;
 import io.cucumber.core.snippets.TestSnippet;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
@@ -24,6 +32,7 @@ import org.mockito.stubbing.Answer;
 
 import java.net.URI;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -34,6 +43,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
@@ -41,6 +51,7 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +68,24 @@ public class RunnerTest {
     private final TypeRegistryConfigurer typeRegistryConfigurer = typeRegistry -> {
     };
 
+    @Test
+    public void skips_pickle_without_running_or_matching_its_steps() {
+        List<Event> events = new ArrayList<>();
+        bus.registerHandlerFor(TestCaseStarted.class, events::add);
+        bus.registerHandlerFor(TestCaseFinished.class, events::add);
+        PickleStep step = mock(PickleStep.class);
+        when(step.getText()).thenReturn("some step");
+
+        Runner.skipPickle(bus, createPickleEventWithSteps(asList(step)));
+
+        assertThat(events.size(), is(2));
+        TestCaseStarted started = (TestCaseStarted) events.get(0);
+        TestCaseFinished finished = (TestCaseFinished) events.get(1);
+        assertThat(started.getTestCase().getTestSteps().isEmpty(), is(true));
+        assertThat(finished.getTestCase(), is(sameInstance(started.getTestCase())));
+        assertThat(finished.getResult().getStatus(), is(Status.SKIPPED));
+    }
+
     @Test
     public void hooks_execute_when_world_exist() throws Throwable {
         final HookDefinition beforeHook = addBeforeHook();
@@ -279,6 +308,80 @@ public class RunnerTest {
         verify(backend).getSnippet();
     }
 
+    @Test
+    public void snippets_are_generated_once_for_repeated_undefined_steps() {
+        PickleStep step = mock(PickleStep.class);
+        when(step.getText()).thenReturn("some step");
+        Snippet snippet = spy(new TestSnippet());
+        Backend backend = mock(Backend.class);
+        when(backend.getSnippet()).thenReturn(snippet);
+        ObjectFactory objectFactory = mock(ObjectFactory.class);
+        List<SnippetsSuggestedEvent> events = new ArrayList<>();
+        bus.registerHandlerFor(SnippetsSuggestedEvent.class, events::add);
+
+        Runner runner = new Runner(bus, singletonList(backend), objectFactory, typeRegistryConfigurer, runtimeOptions);
+        runner.runPickle(createPickleEventWithSteps(asList(step, step)));
+        runner.runPickle(createPickleEventWithSteps(asList(step)));
+
+        verify(backend).getSnippet();
+        verify(snippet).template();
+        assertThat(events.size(), is(equalTo(3)));
+        assertThat(events.get(2).getSnippets(), is(equalTo(events.get(0).getSnippets())));
+    }
+
+    @Test
+    public void type_registry_is_configured_once_per_locale() {
+        List<io.cucumber.core.api.TypeRegistry> configured = new ArrayList<>();
+        TypeRegistryConfigurer typeRegistryConfigurer = configured::add;
+        Backend backend = mock(Backend.class);
+        when(backend.getSnippet()).thenReturn(new TestSnippet());
+        ObjectFactory objectFactory = mock(ObjectFactory.class);
+        PickleStep step = mock(PickleStep.class);
+        when(step.getText()).thenReturn("some step");
+
+        Runner runner = new Runner(bus, singletonList(backend), objectFactory, typeRegistryConfigurer, runtimeOptions);
+        runner.runPickle(createPickleEventWithSteps(asList(step)));
+        runner.runPickle(createPickleEventWithSteps(asList(step)));
+        runner.runPickle(new PickleEvent("uri", new Pickle(NAME, "fr", asList(step), NO_TAGS, MOCK_LOCATIONS)));
+
+        // Once for english and once for french
+        assertThat(configured.size(), is(equalTo(2)));
+    }
+
+    @Test
+    public void step_hooks_are_planned_once_per_tag_combination() throws Throwable {
+        final HookDefinition beforeStepHook = mock(HookDefinition.class);
+        when(beforeStepHook.getTagExpression()).thenReturn("@tagged");
+        StubStepDefinition stepDefinition = new StubStepDefinition("some step");
+
+        TestRunnerSupplier runnerSupplier = new TestRunnerSupplier(bus, runtimeOptions) {
+            @Override
+            public void loadGlue(Glue glue, List<URI> gluePaths) {
+                glue.addStepDefinition(stepDefinition);
+                glue.addBeforeStepHook(beforeStepHook);
+            }
+        };
+        List<TestStep> hookSteps = new ArrayList<>();
+        bus.registerHandlerFor(TestStepStarted.class, event -> {
+            if (event.getTestStep() instanceof io.cucumber.core.event.HookTestStep) {
+                hookSteps.add(event.getTestStep());
+            }
+        });
+
+        PickleStep step = mock(PickleStep.class);
+        when(step.getText()).thenReturn("some step");
+        List<PickleTag> tags = singletonList(new PickleTag(mock(PickleLocation.class), "@tagged"));
+        Runner runner = runnerSupplier.get();
+        runner.runPickle(new PickleEvent("uri", new Pickle(NAME, ENGLISH, asList(step, step), tags, MOCK_LOCATIONS)));
+        runner.runPickle(createPickleEventWithSteps(asList(step)));
+        runner.runPickle(new PickleEvent("uri", new Pickle(NAME, ENGLISH, asList(step), tags, MOCK_LOCATIONS)));
+
+        verify(beforeStepHook, times(3)).execute(any(Scenario.class));
+        assertThat(hookSteps.size(), is(equalTo(3)));
+        assertThat(hookSteps.get(1), is(sameInstance(hookSteps.get(0))));
+        assertThat(hookSteps.get(2), is(sameInstance(hookSteps.get(0))));
+    }
+
     private HookDefinition addBeforeHook() {
         return addHook();
     }
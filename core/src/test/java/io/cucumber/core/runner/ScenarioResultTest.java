@@ -10,6 +10,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatcher;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -22,8 +26,10 @@ import static org.hamcrest.core.IsEqual.equalTo;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,12 +44,14 @@ public class ScenarioResultTest {
             Collections.<HookTestStep>emptyList(),
             mock(PickleEvent.class),
             false
-        )
+        ),
+        new AttachmentStore()
     );
 
     @BeforeEach
     public void setup() {
         when(bus.getInstant()).thenReturn(Instant.now());
+        when(bus.hasHandlersFor(any())).thenReturn(true);
     }
 
     @Test
@@ -114,6 +122,35 @@ public class ScenarioResultTest {
         verify(bus).send(argThat(new EmbedEventMatcher(data, "bytes/foo")));
     }
 
+    @Test
+    public void embeds_file() throws IOException {
+        Path file = Files.createTempFile("screenshot", ".png");
+        file.toFile().deleteOnExit();
+        byte[] data = new byte[]{1, 2, 3};
+        Files.write(file, data);
+
+        s.embed(file, "image/png", "screenshot");
+        verify(bus).send(argThat(new EmbedEventMatcher(data, "image/png")));
+    }
+
+    @Test
+    public void embeds_stream() {
+        byte[] data = new byte[]{1, 2, 3};
+        s.embed(new ByteArrayInputStream(data), "bytes/foo", "data");
+        verify(bus).send(argThat(new EmbedEventMatcher(data, "bytes/foo")));
+    }
+
+    @Test
+    public void reads_stream_to_its_end_without_embed_handlers() {
+        when(bus.hasHandlersFor(EmbedEvent.class)).thenReturn(false);
+        ByteArrayInputStream data = new ByteArrayInputStream(new byte[]{1, 2, 3});
+
+        s.embed(data, "bytes/foo", "data");
+
+        assertThat(data.available(), is(0));
+        verify(bus, never()).send(any());
+    }
+
     @Test
     public void prints_output() {
         s.write("Hi");
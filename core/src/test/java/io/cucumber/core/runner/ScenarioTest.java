@@ -79,7 +79,7 @@ public class ScenarioTest {
                 locations
             )),
             false
-        ));
+        ), new AttachmentStore());
     }
 
     private String uri(String uri) {
@@ -0,0 +1,69 @@
+package io.cucumber.core.runner;
+
+import io.cucumber.core.stepexpression.StepExpression;
+import io.cucumber.core.stepexpression.StepExpressionFactory;
+import io.cucumber.core.stepexpression.TypeRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+public class StepDefinitionIndexTest {
+
+    private final TypeRegistry typeRegistry = new TypeRegistry(Locale.ENGLISH);
+
+    @Test
+    public void finds_words_in_cucumber_expression() {
+        assertThat(requiredWords("I have {int} cukes in my belly"), contains("I", "have", "cukes", "in", "my", "belly"));
+    }
+
+    @Test
+    public void ignores_words_next_to_parameters_optionals_and_alternatives() {
+        assertThat(requiredWords("I have {int}cukes"), contains("I", "have"));
+        assertThat(requiredWords("a cuke(s) in the belly"), contains("a", "in", "the", "belly"));
+        assertThat(requiredWords("the red/green light"), contains("the", "light"));
+    }
+
+    @Test
+    public void finds_words_in_regular_expression() {
+        assertThat(requiredWords("^I have (\\d+) cukes$"), contains("I", "have", "cukes"));
+        assertThat(requiredWords("^colou?r is red\\.$"), contains("is", "red"));
+        assertThat(requiredWords("^pattern[1,3]$"), empty());
+        assertThat(requiredWords("^some (?:thing|one) here$"), contains("some", "here"));
+    }
+
+    @Test
+    public void ignores_regular_expression_with_alternation_or_flags() {
+        assertThat(requiredWords("^a cuke|a belly$"), empty());
+        assertThat(requiredWords("^(?i)a cuke$"), empty());
+        assertThat(requiredWords("^a \\Qcuke\\E$"), empty());
+    }
+
+    @Test
+    public void selects_candidates_by_word() {
+        CoreStepDefinition cukes = coreStepDefinition("I have {int} cukes");
+        CoreStepDefinition apples = coreStepDefinition("I have {int} apples");
+        CoreStepDefinition anything = coreStepDefinition("^(.*)$");
+        StepDefinitionIndex index = new StepDefinitionIndex(asList(cukes, apples, anything));
+
+        assertThat(index.candidates("I have 5 cukes"), containsInAnyOrder(cukes, anything));
+        assertThat(index.candidates("I have 5 apples"), containsInAnyOrder(apples, anything));
+        assertThat(index.candidates("I have 5 pears"), contains(anything));
+    }
+
+    private Set<String> requiredWords(String expression) {
+        StepExpression stepExpression = new StepExpressionFactory(typeRegistry).createExpression(expression);
+        return StepDefinitionIndex.requiredWords(stepExpression);
+    }
+
+    private CoreStepDefinition coreStepDefinition(String pattern) {
+        return new CoreStepDefinition(new StubStepDefinition(pattern), typeRegistry);
+    }
+
+}
@@ -40,6 +40,8 @@ public class TestCaseTest {
     @BeforeEach
     public void init() {
         Mockito.when(bus.getInstant()).thenReturn(Instant.now());
+        Mockito.when(bus.hasHandlersFor(Mockito.any())).thenReturn(true);
+        Mockito.when(bus.getInstant(Mockito.anyLong())).thenReturn(Instant.now());
     }
 
     private final PickleStepTestStep testStep1 = new PickleStepTestStep(
@@ -67,7 +69,7 @@ public class TestCaseTest {
     public void run_wraps_execute_in_test_case_started_and_finished_events() throws Throwable {
         doThrow(new UndefinedStepDefinitionException()).when(definitionMatch1).runStep(isA(Scenario.class));
 
-        createTestCase(testStep1).run(bus);
+        createTestCase(testStep1).run(bus, new AttachmentStore());
 
         InOrder order = inOrder(bus, definitionMatch1);
         order.verify(bus).send(isA(TestCaseStarted.class));
@@ -78,7 +80,7 @@ public class TestCaseTest {
     @Test
     public void run_all_steps() throws Throwable {
         TestCase testCase = createTestCase(testStep1, testStep2);
-        testCase.run(bus);
+        testCase.run(bus, new AttachmentStore());
 
         InOrder order = inOrder(definitionMatch1, definitionMatch2);
         order.verify(definitionMatch1).runStep(isA(Scenario.class));
@@ -90,7 +92,7 @@ public class TestCaseTest {
         doThrow(new UndefinedStepDefinitionException()).when(definitionMatch1).runStep(isA(Scenario.class));
 
         TestCase testCase = createTestCase(testStep1, testStep2);
-        testCase.run(bus);
+        testCase.run(bus, new AttachmentStore());
 
         InOrder order = inOrder(beforeStep1HookDefinition1, definitionMatch1, afterStep1HookDefinition1);
         order.verify(beforeStep1HookDefinition1).execute(isA(Scenario.class));
@@ -104,7 +106,7 @@ public class TestCaseTest {
         doThrow(new UndefinedStepDefinitionException()).when(definitionMatch1).runStep(isA(Scenario.class));
 
         TestCase testCase = createTestCase(testStep1, testStep2);
-        testCase.run(bus);
+        testCase.run(bus, new AttachmentStore());
 
         InOrder order = inOrder(beforeStep1HookDefinition2, definitionMatch2, afterStep1HookDefinition2);
         order.verify(beforeStep1HookDefinition2, never()).execute(isA(Scenario.class));
@@ -117,7 +119,7 @@ public class TestCaseTest {
         doThrow(new UndefinedStepDefinitionException()).when(definitionMatch1).runStep(isA(Scenario.class));
 
         TestCase testCase = createTestCase(testStep1, testStep2);
-        testCase.run(bus);
+        testCase.run(bus, new AttachmentStore());
 
         InOrder order = inOrder(definitionMatch1, definitionMatch2);
         order.verify(definitionMatch1).runStep(isA(Scenario.class));
@@ -39,6 +39,7 @@ import java.io.PrintWriter;
 import java.lang.reflect.Type;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -515,6 +516,22 @@ public class TestHelper {
         };
     }
 
+    public static Answer<Object> createEmbedFileHookAction(final Path file, final String mimeType, final String name) {
+        return invocation -> {
+            Scenario scenario = (Scenario) invocation.getArguments()[0];
+            scenario.embed(file, mimeType, name);
+            return null;
+        };
+    }
+
+    public static Answer<Object> createEmbedStreamHookAction(final byte[] data, final String mimeType, final String name) {
+        return invocation -> {
+            Scenario scenario = (Scenario) invocation.getArguments()[0];
+            scenario.embed(new ByteArrayInputStream(data), mimeType, name);
+            return null;
+        };
+    }
+
     private static AssertionFailedError mockAssertionFailedError() {
         AssertionFailedError error = mock(AssertionFailedError.class);
         Answer<Object> printStackTraceHandler = new Answer<Object>() {
@@ -18,6 +18,7 @@ public class TestRunnerSupplier implements Backend, RunnerSupplier, ObjectFactor
 
     private final EventBus bus;
     private final RuntimeOptions runtimeOptions;
+    private final AttachmentStore attachmentStore = new AttachmentStore();
 
     protected TestRunnerSupplier(EventBus bus, RuntimeOptions runtimeOptions) {
         this.bus = bus;
@@ -46,7 +47,12 @@ public class TestRunnerSupplier implements Backend, RunnerSupplier, ObjectFactor
 
     @Override
     public Runner get() {
-        return new Runner(bus, singleton(this), this, typeRegistry -> {}, runtimeOptions);
+        return new Runner(bus, singleton(this), this, typeRegistry -> {}, runtimeOptions, new StepPatternCache(), attachmentStore);
+    }
+
+    @Override
+    public AttachmentStore getAttachmentStore() {
+        return attachmentStore;
     }
 
     @Override
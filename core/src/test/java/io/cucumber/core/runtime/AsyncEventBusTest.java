@@ -0,0 +1,168 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.event.Event;
+import io.cucumber.core.event.EventHandler;
+import io.cucumber.core.event.EventPublisher;
+import io.cucumber.core.event.TestCase;
+import io.cucumber.core.event.TestRunFinished;
+import io.cucumber.core.event.TestSourceRead;
+import io.cucumber.core.event.WriteEvent;
+import io.cucumber.core.eventbus.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyCollection.empty;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsCollectionContaining.hasItem;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.mockito.Mockito.mock;
+
+public class AsyncEventBusTest {
+
+    private final AsyncEventBus bus = new AsyncEventBus(new TimeServiceEventBus(Clock.systemUTC()), 1);
+
+    @AfterEach
+    public void shutdown() {
+        bus.shutdownNow();
+    }
+
+    @Test
+    public void dispatches_events_in_order_on_another_thread() throws InterruptedException {
+        List<String> received = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        bus.registerHandlerFor(TestSourceRead.class, event -> {
+            received.add(event.getUri());
+            threads.add(Thread.currentThread());
+        });
+
+        List<String> sent = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            sent.add("file:" + i + ".feature");
+            bus.send(testSourceRead("file:" + i + ".feature"));
+        }
+
+        assertThat(bus.flush(), is(empty()));
+        assertThat(received, is(equalTo(sent)));
+        assertThat(threads, not(hasItem(Thread.currentThread())));
+    }
+
+    @Test
+    public void flush_returns_exceptions_thrown_by_handlers() throws InterruptedException {
+        RuntimeException failure = new RuntimeException("boom");
+        bus.registerHandlerFor(TestSourceRead.class, event -> {
+            throw failure;
+        });
+
+        bus.send(testSourceRead("file:a.feature"));
+
+        List<Throwable> thrown = bus.flush();
+        assertThat(thrown.size(), is(1));
+        assertThat(thrown.get(0), is(sameInstance(failure)));
+        assertThat(bus.flush(), is(empty()));
+    }
+
+    @Test
+    public void drops_events_for_plugin_that_can_not_keep_up() throws InterruptedException {
+        BlockingHandler<WriteEvent> plugin = new BlockingHandler<>();
+        EventPublisher publisher = bus.createPluginEventPublisher("SlowPlugin", OverflowPolicy.DROP, 1);
+        publisher.registerHandlerFor(WriteEvent.class, plugin);
+        CountDownLatch dispatched = new CountDownLatch(3);
+        bus.registerHandlerFor(WriteEvent.class, event -> dispatched.countDown());
+
+        bus.send(writeEvent("1"));
+        plugin.receiving.await();
+        bus.send(writeEvent("2"));
+        bus.send(writeEvent("3"));
+        dispatched.await();
+        plugin.release.countDown();
+
+        assertThat(bus.flush(), is(empty()));
+        assertThat(plugin.received, is(equalTo(asList("1", "2"))));
+    }
+
+    @Test
+    public void does_not_drop_lifecycle_events_for_plugin_that_can_not_keep_up() throws InterruptedException {
+        BlockingHandler<Event> plugin = new BlockingHandler<>();
+        EventPublisher publisher = bus.createPluginEventPublisher("SlowPlugin", OverflowPolicy.DROP, 1);
+        publisher.registerHandlerFor(Event.class, plugin);
+        CountDownLatch queued = new CountDownLatch(2);
+        bus.registerHandlerFor(WriteEvent.class, event -> queued.countDown());
+
+        bus.send(writeEvent("1"));
+        plugin.receiving.await();
+        bus.send(writeEvent("2"));
+        queued.await();
+        bus.send(new TestRunFinished(Instant.EPOCH));
+        plugin.release.countDown();
+
+        assertThat(bus.flush(), is(empty()));
+        assertThat(plugin.received, is(equalTo(asList("1", "2", "TestRunFinished"))));
+    }
+
+    @Test
+    public void waits_for_plugin_that_can_not_keep_up() throws InterruptedException {
+        BlockingHandler<WriteEvent> plugin = new BlockingHandler<>();
+        EventPublisher publisher = bus.createPluginEventPublisher("SlowPlugin", OverflowPolicy.BLOCK, 1);
+        publisher.registerHandlerFor(WriteEvent.class, plugin);
+
+        bus.send(writeEvent("1"));
+        plugin.receiving.await();
+        bus.send(writeEvent("2"));
+        bus.send(writeEvent("3"));
+        plugin.release.countDown();
+
+        assertThat(bus.flush(), is(empty()));
+        assertThat(plugin.received, is(equalTo(asList("1", "2", "3"))));
+    }
+
+    @Test
+    public void removes_plugin_handler() throws InterruptedException {
+        List<String> received = new CopyOnWriteArrayList<>();
+        EventHandler<TestSourceRead> handler = event -> received.add(event.getUri());
+        EventPublisher publisher = bus.createPluginEventPublisher("Plugin", OverflowPolicy.BLOCK);
+        publisher.registerHandlerFor(TestSourceRead.class, handler);
+        publisher.removeHandlerFor(TestSourceRead.class, handler);
+
+        bus.send(testSourceRead("file:1.feature"));
+
+        assertThat(bus.flush(), is(empty()));
+        assertThat(received, is(empty()));
+        assertThat(bus.hasHandlersFor(TestSourceRead.class), is(false));
+    }
+
+    private static TestSourceRead testSourceRead(String uri) {
+        return new TestSourceRead(Instant.EPOCH, uri, "");
+    }
+
+    private static WriteEvent writeEvent(String text) {
+        return new WriteEvent(Instant.EPOCH, mock(TestCase.class), text);
+    }
+
+    private static final class BlockingHandler<T extends Event> implements EventHandler<T> {
+        private final CountDownLatch receiving = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void receive(T event) {
+            receiving.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(event instanceof WriteEvent ? ((WriteEvent) event).getText() : event.getClass().getSimpleName());
+        }
+    }
+}
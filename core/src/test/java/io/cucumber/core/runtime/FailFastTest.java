@@ -0,0 +1,134 @@
+package io.cucumber.core.runtime;
+
+import gherkin.events.PickleEvent;
+import gherkin.pickles.Pickle;
+import gherkin.pickles.PickleLocation;
+import io.cucumber.core.event.Result;
+import io.cucumber.core.event.Status;
+import io.cucumber.core.event.TestCase;
+import io.cucumber.core.event.TestCaseFinished;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static java.time.Duration.ZERO;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class FailFastTest {
+
+    private final TimeServiceEventBus bus = new TimeServiceEventBus(Clock.systemUTC());
+    private final List<String> executed = new ArrayList<>();
+
+    @Test
+    public void runs_pickles_until_threshold_is_reached() {
+        FailFast failFast = new FailFast(2, false);
+        failFast.setEventPublisher(bus);
+
+        failFast.runPickle(pickle("a"), this::run, this::skip);
+        finish(Status.FAILED);
+        failFast.runPickle(pickle("b"), this::run, this::skip);
+        finish(Status.PASSED);
+        failFast.runPickle(pickle("c"), this::run, this::skip);
+        finish(Status.FAILED);
+        failFast.runPickle(pickle("d"), this::run, this::skip);
+
+        assertThat(failFast.isTriggered(), is(true));
+        assertThat(executed, contains("run a", "run b", "run c", "skip d"));
+    }
+
+    @Test
+    public void undefined_steps_fail_in_strict_mode_only() {
+        FailFast failFast = new FailFast(1, false);
+        failFast.setEventPublisher(bus);
+        finish(Status.UNDEFINED);
+        assertThat(failFast.isTriggered(), is(false));
+
+        FailFast strictFailFast = new FailFast(1, true);
+        strictFailFast.setEventPublisher(bus);
+        finish(Status.UNDEFINED);
+        assertThat(strictFailFast.isTriggered(), is(true));
+    }
+
+    @Test
+    public void interrupts_running_pickles_when_threshold_is_reached() throws InterruptedException {
+        FailFast failFast = new FailFast(1, false);
+        failFast.setEventPublisher(bus);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Thread thread = new Thread(() -> failFast.runPickle(pickle("a"), pickle -> {
+            started.countDown();
+            try {
+                Thread.sleep(SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        }, this::skip));
+        thread.start();
+        started.await(1, SECONDS);
+
+        finish(Status.FAILED);
+
+        interrupted.await(1, SECONDS);
+        assertThat(interrupted.getCount(), is(equalTo(0L)));
+        thread.join(SECONDS.toMillis(1));
+    }
+
+    @Test
+    public void does_not_interrupt_the_pickle_that_failed() throws InterruptedException {
+        FailFast failFast = new FailFast(1, false);
+        failFast.setEventPublisher(bus);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        boolean[] interrupted = new boolean[1];
+
+        Thread thread = new Thread(() -> failFast.runPickle(pickle("a"), pickle -> {
+            started.countDown();
+            try {
+                finished.await(1, SECONDS);
+            } catch (InterruptedException e) {
+                interrupted[0] = true;
+            }
+        }, this::skip));
+        thread.start();
+        started.await(1, SECONDS);
+
+        TestCase testCase = mock(TestCase.class);
+        given(testCase.getUri()).willReturn("uri");
+        given(testCase.getLine()).willReturn(1);
+        bus.send(new TestCaseFinished(bus.getInstant(), testCase, new Result(Status.FAILED, ZERO, null)));
+        finished.countDown();
+        thread.join(SECONDS.toMillis(1));
+
+        assertThat(failFast.isTriggered(), is(true));
+        assertThat(interrupted[0], is(false));
+    }
+
+    private void run(PickleEvent pickle) {
+        executed.add("run " + pickle.pickle.getName());
+    }
+
+    private void skip(PickleEvent pickle) {
+        executed.add("skip " + pickle.pickle.getName());
+    }
+
+    private void finish(Status status) {
+        bus.send(new TestCaseFinished(bus.getInstant(), mock(TestCase.class), new Result(status, ZERO, null)));
+    }
+
+    private static PickleEvent pickle(String name) {
+        List<PickleLocation> locations = singletonList(new PickleLocation(1, 1));
+        return new PickleEvent("uri", new Pickle(name, "en", emptyList(), emptyList(), locations));
+    }
+}
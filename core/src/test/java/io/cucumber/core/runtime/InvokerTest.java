@@ -70,6 +70,8 @@ public class InvokerTest {
 
     @Test
     public void doesnt_leak_threads() throws Throwable {
+        // Starts the shared timer thread
+        Invoker.timeout(() -> null, 10);
 
         long initialNumberOfThreads = Thread.getAllStackTraces().size();
         long currentNumberOfThreads = Long.MAX_VALUE;
@@ -94,6 +96,31 @@ public class InvokerTest {
             cleanedUp, is(equalTo(true)));
     }
 
+    @Test
+    public void cancels_timeouts_when_callback_finishes_in_time() throws Throwable {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            try {
+                Invoker.timeout((Invoker.Callback<Void>) () -> {
+                    running.countDown();
+                    finish.await();
+                    return null;
+                }, 10000);
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        });
+        thread.start();
+        running.await();
+
+        assertThat(Invoker.getPendingTimeouts(), is(equalTo(1)));
+
+        finish.countDown();
+        thread.join();
+        assertThat(Invoker.getPendingTimeouts(), is(equalTo(0)));
+    }
+
     public static class Slow {
         int busyCounter = Integer.MIN_VALUE;
 
@@ -0,0 +1,101 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.exception.CucumberException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.hamcrest.core.StringEndsWith.endsWith;
+import static org.hamcrest.core.StringStartsWith.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MethodHandleInvokerTest {
+
+    private static final RuntimeException FAILURE = new RuntimeException();
+
+    @Test
+    public void invokes_instance_method() throws Throwable {
+        MethodHandleInvoker invoker = new MethodHandleInvoker(Glue.class.getMethod("concat", String.class, int.class));
+        assertThat(invoker.invoke(new Glue(), "a", 1), is(equalTo("a1")));
+    }
+
+    @Test
+    public void invokes_non_public_static_method() throws Throwable {
+        MethodHandleInvoker invoker = new MethodHandleInvoker(Glue.class.getDeclaredMethod("twice", int.class));
+        assertThat(invoker.invoke(new Glue(), 21), is(equalTo(42)));
+    }
+
+    @Test
+    public void invokes_void_method() throws Throwable {
+        Glue glue = new Glue();
+        MethodHandleInvoker invoker = new MethodHandleInvoker(Glue.class.getMethod("touch"));
+        assertThat(invoker.invoke(glue), is(equalTo(null)));
+        assertThat(glue.touched, is(true));
+    }
+
+    @Test
+    public void throws_exception_of_method() throws Throwable {
+        MethodHandleInvoker invoker = new MethodHandleInvoker(Glue.class.getMethod("fail"));
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> invoker.invoke(new Glue()));
+        assertThat(thrown, is(sameInstance(FAILURE)));
+    }
+
+    @Test
+    public void fails_on_argument_type_mismatch() throws Throwable {
+        MethodHandleInvoker invoker = new MethodHandleInvoker(Glue.class.getMethod("concat", String.class, int.class));
+        Executable testMethod = () -> invoker.invoke(new Glue(), "a", null);
+        CucumberException thrown = assertThrows(CucumberException.class, testMethod);
+        assertThat(thrown.getMessage(), allOf(
+            startsWith("Failed to invoke io.cucumber.core.runtime.MethodHandleInvokerTest$Glue.concat(String,int)"),
+            endsWith("caused by java.lang.IllegalArgumentException: argument type mismatch")));
+    }
+
+    @Test
+    public void fails_on_wrong_number_of_arguments() throws Throwable {
+        MethodHandleInvoker invoker = new MethodHandleInvoker(Glue.class.getMethod("touch"));
+        Executable testMethod = () -> invoker.invoke(new Glue(), "a");
+        CucumberException thrown = assertThrows(CucumberException.class, testMethod);
+        assertThat(thrown.getMessage(), allOf(
+            startsWith("Failed to invoke io.cucumber.core.runtime.MethodHandleInvokerTest$Glue.touch()"),
+            endsWith("caused by java.lang.IllegalArgumentException: wrong number of arguments")));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void times_out_if_it_takes_too_long() throws Throwable {
+        MethodHandleInvoker invoker = new MethodHandleInvoker(Glue.class.getMethod("sleep", long.class));
+        Executable testMethod = () -> invoker.invokeWithTimeout(new Glue(), 50, 1000L);
+        TimeoutException thrown = assertThrows(TimeoutException.class, testMethod);
+        assertThat(thrown.getMessage(), is(equalTo("Timed out after 50ms.")));
+    }
+
+    public static class Glue {
+        private boolean touched;
+
+        public String concat(String a, int b) {
+            return a + b;
+        }
+
+        private static int twice(int a) {
+            return 2 * a;
+        }
+
+        public void touch() {
+            touched = true;
+        }
+
+        public void fail() {
+            throw FAILURE;
+        }
+
+        public void sleep(long millis) throws InterruptedException {
+            Thread.sleep(millis);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.cucumber.core.runtime;
+
+import gherkin.events.PickleEvent;
+import gherkin.pickles.Pickle;
+import gherkin.pickles.PickleLocation;
+import io.cucumber.core.backend.Backend;
+import io.cucumber.core.backend.ObjectFactoryServiceLoader;
+import io.cucumber.core.options.RuntimeOptions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class RunnerPoolTest {
+
+    private final RuntimeOptions runtimeOptions = RuntimeOptions.defaultOptions();
+    private final TimeServiceEventBus eventBus = new TimeServiceEventBus(Clock.systemUTC());
+    private final Backend backend = mock(Backend.class);
+    private final AtomicInteger createdRunners = new AtomicInteger();
+
+    @Test
+    public void reuses_runners_between_pickles() {
+        RunnerPool runnerPool = createRunnerPool(2);
+
+        runnerPool.withRunner(runner -> runner.runPickle(createPickleEvent()));
+        runnerPool.withRunner(runner -> runner.runPickle(createPickleEvent()));
+
+        assertThat(createdRunners.get(), is(equalTo(1)));
+    }
+
+    @Test
+    public void creates_a_runner_for_each_concurrent_pickle() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            bothStarted.countDown();
+            bothStarted.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(backend).buildWorld();
+        RunnerPool runnerPool = createRunnerPool(2);
+
+        runConcurrently(runnerPool, 2);
+
+        assertThat(createdRunners.get(), is(equalTo(2)));
+    }
+
+    @Test
+    public void creates_at_most_size_runners() throws Exception {
+        doAnswer(invocation -> {
+            Thread.sleep(10);
+            return null;
+        }).when(backend).buildWorld();
+        RunnerPool runnerPool = createRunnerPool(1);
+
+        runConcurrently(runnerPool, 4);
+
+        assertThat(createdRunners.get(), is(equalTo(1)));
+    }
+
+    private RunnerPool createRunnerPool(int size) {
+        return new RunnerPool(
+            runtimeOptions,
+            eventBus,
+            objectFactorySupplier -> {
+                createdRunners.incrementAndGet();
+                return () -> singletonList(backend);
+            },
+            new ObjectFactoryServiceLoader(runtimeOptions),
+            () -> typeRegistry -> {
+            },
+            size
+        );
+    }
+
+    private static void runConcurrently(RunnerPool runnerPool, int pickles) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(pickles);
+        try {
+            Future<?>[] futures = new Future<?>[pickles];
+            for (int i = 0; i < pickles; i++) {
+                futures[i] = executor.submit(() -> runnerPool.withRunner(runner -> runner.runPickle(createPickleEvent())));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static PickleEvent createPickleEvent() {
+        return new PickleEvent("uri", new Pickle("name", "en", emptyList(), emptyList(), singletonList(new PickleLocation(1, 1))));
+    }
+}
@@ -15,6 +15,7 @@ import io.cucumber.core.event.StepDefinedEvent;
 import io.cucumber.core.event.StepDefinition;
 import io.cucumber.core.event.TestCase;
 import io.cucumber.core.event.TestCaseFinished;
+import io.cucumber.core.event.TestRunFinished;
 import io.cucumber.core.event.TestStepFinished;
 import io.cucumber.core.eventbus.EventBus;
 import io.cucumber.core.exception.CompositeCucumberException;
@@ -48,6 +49,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.cucumber.core.runner.TestHelper.feature;
 import static io.cucumber.core.runner.TestHelper.result;
@@ -392,6 +394,47 @@ public class RuntimeTest {
                 "TestRun finished\n")));
     }
 
+    @Test
+    public void runs_custom_backend_with_virtual_threads() {
+        CucumberFeature feature1 = TestHelper.feature("path/test.feature", "" +
+            "Feature: feature name 1\n" +
+            "  Scenario: scenario_1 name\n" +
+            "    Given first step\n");
+
+        CucumberFeature feature2 = TestHelper.feature("path/test2.feature", "" +
+            "Feature: feature name 2\n" +
+            "  Scenario: scenario_2 name\n" +
+            "    Given first step\n");
+
+        final List<CucumberFeature> features = Arrays.asList(feature1, feature2);
+        List<ObjectFactorySupplier> objectFactorySuppliers = Collections.synchronizedList(new ArrayList<>());
+        List<Status> statuses = Collections.synchronizedList(new ArrayList<>());
+        ConcurrentEventListener listener = publisher -> publisher.registerHandlerFor(TestCaseFinished.class,
+            event -> statuses.add(event.getResult().getStatus()));
+
+        Runtime.builder()
+            .withFeatureSupplier(new TestFeatureSupplier(bus, features))
+            .withEventBus(bus)
+            .withRuntimeOptions(
+                new CommandlineOptionsParser()
+                    .parse("--threads", String.valueOf(features.size()), "--virtual-threads")
+                    .build()
+            )
+            .withAdditionalPlugins(listener)
+            .withBackendSupplier(objectFactorySupplier -> {
+                objectFactorySuppliers.add(objectFactorySupplier);
+                return new TestHelper.TestHelperBackendSupplier(features);
+            })
+            .build()
+            .run();
+
+        assertThat(objectFactorySuppliers.isEmpty(), is(false));
+        for (ObjectFactorySupplier objectFactorySupplier : objectFactorySuppliers) {
+            assertThat(objectFactorySupplier.get() != null, is(true));
+        }
+        assertThat(statuses, contains(Status.PASSED, Status.PASSED));
+    }
+
     @Test
     public void should_call_formatter_with_correct_sequence_of_events_when_running_in_parallel() {
         CucumberFeature feature1 = TestHelper.feature("path/test.feature", "" +
@@ -481,6 +524,89 @@ public class RuntimeTest {
         )));
     }
 
+    @Test
+    public void should_run_all_pickles_when_there_are_more_pickles_than_threads() {
+        StringBuilder source = new StringBuilder("Feature: feature name\n");
+        for (int i = 0; i < 9; i++) {
+            source.append("  Scenario: scenario_").append(i).append(" name\n")
+                .append("    Given first step\n");
+        }
+        CucumberFeature feature = TestHelper.feature("path/test.feature", source.toString());
+
+        AtomicInteger finishedTestCases = new AtomicInteger();
+        ConcurrentEventListener testCaseCounter = publisher -> publisher.registerHandlerFor(TestCaseFinished.class,
+            (TestCaseFinished event) -> finishedTestCases.incrementAndGet());
+
+        TestHelper.builder()
+            .withFeatures(feature)
+            .withFormatterUnderTest(testCaseCounter)
+            .withTimeServiceType(TestHelper.TimeServiceType.REAL_TIME)
+            .withRuntimeArgs("--threads", "2")
+            .build()
+            .run();
+
+        assertThat(finishedTestCases.get(), is(equalTo(9)));
+    }
+
+    @Test
+    public void should_skip_remaining_pickles_after_first_failure_with_fail_fast() {
+        CucumberFeature feature = TestHelper.feature("path/test.feature", "" +
+            "Feature: feature name\n" +
+            "  Scenario: scenario_1 name\n" +
+            "    Given failing step\n" +
+            "  Scenario: scenario_2 name\n" +
+            "    Given passing step\n" +
+            "  Scenario: scenario_3 name\n" +
+            "    Given failing step\n");
+
+        List<Status> statuses = runWithFailFast(feature, "--fail-fast");
+
+        assertThat(statuses, contains(Status.FAILED, Status.SKIPPED, Status.SKIPPED));
+    }
+
+    @Test
+    public void should_skip_remaining_pickles_after_threshold_with_fail_fast() {
+        CucumberFeature feature = TestHelper.feature("path/test.feature", "" +
+            "Feature: feature name\n" +
+            "  Scenario: scenario_1 name\n" +
+            "    Given failing step\n" +
+            "  Scenario: scenario_2 name\n" +
+            "    Given passing step\n" +
+            "  Scenario: scenario_3 name\n" +
+            "    Given failing step\n" +
+            "  Scenario: scenario_4 name\n" +
+            "    Given passing step\n");
+
+        List<Status> statuses = runWithFailFast(feature, "--fail-fast", "2");
+
+        assertThat(statuses, contains(Status.FAILED, Status.PASSED, Status.FAILED, Status.SKIPPED));
+    }
+
+    private List<Status> runWithFailFast(CucumberFeature feature, String... runtimeArgs) {
+        Map<String, Result> stepsToResult = new HashMap<>();
+        stepsToResult.put("failing step", result("failed"));
+        stepsToResult.put("passing step", result("passed"));
+
+        List<Status> statuses = new ArrayList<>();
+        AtomicInteger finishedTestRuns = new AtomicInteger();
+        ConcurrentEventListener listener = publisher -> {
+            publisher.registerHandlerFor(TestCaseFinished.class, (TestCaseFinished event) -> statuses.add(event.getResult().getStatus()));
+            publisher.registerHandlerFor(TestRunFinished.class, (TestRunFinished event) -> finishedTestRuns.incrementAndGet());
+        };
+
+        TestHelper.builder()
+            .withFeatures(feature)
+            .withStepsToResult(stepsToResult)
+            .withFormatterUnderTest(listener)
+            .withTimeServiceType(TestHelper.TimeServiceType.REAL_TIME)
+            .withRuntimeArgs(runtimeArgs)
+            .build()
+            .run();
+
+        assertThat(finishedTestRuns.get(), is(equalTo(1)));
+        return statuses;
+    }
+
     @Test
     public void should_interrupt_waiting_plugins() throws InterruptedException {
         final CucumberFeature feature1 = TestHelper.feature("path/test.feature", "" +
@@ -580,10 +706,10 @@ public class RuntimeTest {
 
 
         assertThat(stepDefinedEvents, contains(
+            // Global glue is compiled once
             mockedStepDefinition,
+            // Scenario scoped glue twice, once for each scenario
             mockedScenarioScopedStepDefinition,
-            // Twice, once for each scenario
-            mockedStepDefinition,
             mockedScenarioScopedStepDefinition
         ));
 
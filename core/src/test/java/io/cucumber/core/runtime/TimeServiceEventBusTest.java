@@ -0,0 +1,52 @@
+package io.cucumber.core.runtime;
+
+import io.cucumber.core.runner.ClockStub;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static java.time.Duration.ofMillis;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.number.OrderingComparison.greaterThanOrEqualTo;
+import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
+
+public class TimeServiceEventBusTest {
+
+    @Test
+    public void measures_time_with_the_given_clock() {
+        TimeServiceEventBus bus = new TimeServiceEventBus(new ClockStub(ofMillis(1234L)));
+        long start = bus.getTime();
+        long stop = bus.getTime();
+
+        assertThat(Duration.ofNanos(stop - start), is(equalTo(ofMillis(1234L))));
+        assertThat(bus.getInstant(start), is(equalTo(Instant.EPOCH)));
+        assertThat(bus.getInstant(stop), is(equalTo(Instant.ofEpochMilli(1234L))));
+    }
+
+    @Test
+    public void measures_monotonic_time_with_the_system_clock() {
+        Instant before = Instant.now();
+        TimeServiceEventBus bus = TimeServiceEventBus.system();
+        long start = bus.getTime();
+        long stop = bus.getTime();
+        Instant after = Instant.now();
+
+        assertThat(stop, is(greaterThanOrEqualTo(start)));
+        assertThat(bus.getInstant(start), is(greaterThanOrEqualTo(before)));
+        assertThat(bus.getInstant(stop), is(lessThanOrEqualTo(after.plusMillis(1))));
+    }
+
+    @Test
+    public void derives_instants_of_events_from_monotonic_time_with_the_system_clock() {
+        TimeServiceEventBus bus = TimeServiceEventBus.system();
+        long start = bus.getTime();
+        Instant instant = bus.getInstant();
+        long stop = bus.getTime();
+
+        assertThat(instant, is(greaterThanOrEqualTo(bus.getInstant(start))));
+        assertThat(instant, is(lessThanOrEqualTo(bus.getInstant(stop))));
+    }
+}
@@ -0,0 +1,129 @@
+package io.cucumber.core.runtime;
+
+import gherkin.events.PickleEvent;
+import gherkin.pickles.Pickle;
+import gherkin.pickles.PickleLocation;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WorkStealingPickleSchedulerTest {
+
+    private final CapturingExecutorService executor = new CapturingExecutorService();
+    private final List<String> executed = new ArrayList<>();
+
+    @Test
+    public void idle_worker_steals_whole_features() {
+        List<PickleEvent> pickles = asList(
+            pickle("a.feature", "a1"),
+            pickle("a.feature", "a2"),
+            pickle("b.feature", "b1"),
+            pickle("c.feature", "c1")
+        );
+
+        new WorkStealingPickleScheduler(2).submit(executor, pickles, pickle -> executed.add(pickle.pickle.getName()), future -> {
+        });
+
+        // a.feature goes to the first worker, b and c to the second
+        executor.workers.get(1).run();
+        assertThat(executed, contains("b1", "c1", "a1", "a2"));
+    }
+
+    @Test
+    public void idle_worker_steals_single_pickles_when_out_of_features() {
+        List<PickleEvent> pickles = asList(
+            pickle("a.feature", "a1"),
+            pickle("a.feature", "a2"),
+            pickle("a.feature", "a3"),
+            pickle("b.feature", "b1"),
+            pickle("b.feature", "b2")
+        );
+
+        new WorkStealingPickleScheduler(2).submit(executor, pickles, pickle -> {
+            executed.add(pickle.pickle.getName());
+            if (pickle.pickle.getName().equals("a1")) {
+                // The second worker runs while the first is busy with a1
+                executor.workers.get(1).run();
+            }
+        }, future -> {
+        });
+
+        executor.workers.get(0).run();
+        assertThat(executed, contains("a1", "b1", "b2", "a3", "a2"));
+    }
+
+    @Test
+    public void reports_futures_in_completion_order() throws Exception {
+        RuntimeException failure = new RuntimeException();
+        List<PickleEvent> pickles = asList(
+            pickle("a.feature", "a1"),
+            pickle("b.feature", "b1")
+        );
+
+        List<Future<?>> futures = new ArrayList<>();
+        new WorkStealingPickleScheduler(2).submit(executor, pickles, pickle -> {
+            if (pickle.pickle.getName().equals("b1")) {
+                throw failure;
+            }
+        }, futures::add);
+        executor.workers.get(1).run();
+
+        assertThat(futures.size(), is(equalTo(2)));
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> futures.get(0).get());
+        assertThat(exception.getCause(), is(sameInstance(failure)));
+        futures.get(1).get();
+    }
+
+    private static PickleEvent pickle(String uri, String name) {
+        List<PickleLocation> locations = singletonList(new PickleLocation(1, 1));
+        return new PickleEvent(uri, new Pickle(name, "en", emptyList(), emptyList(), locations));
+    }
+
+    private static final class CapturingExecutorService extends AbstractExecutorService {
+        private final List<Runnable> workers = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            workers.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.cucumber.core.stepexpression;
+
+import gherkin.pickles.PickleCell;
+import gherkin.pickles.PickleLocation;
+import gherkin.pickles.PickleRow;
+import gherkin.pickles.PickleTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PickleTableConverterTest {
+
+    private final PickleTable pickleTable = new PickleTable(asList(
+        new PickleRow(asList(cell("a"), cell("b"))),
+        new PickleRow(asList(cell("1"), cell("")))
+    ));
+
+    @Test
+    public void views_cells_row_by_row_with_empty_cells_as_null() {
+        List<List<String>> table = PickleTableConverter.toTable(pickleTable);
+
+        assertThat(table, is(equalTo(asList(asList("a", "b"), asList("1", null)))));
+    }
+
+    @Test
+    public void reuses_row_views() {
+        List<List<String>> table = PickleTableConverter.toTable(pickleTable);
+
+        assertThat(table.get(1), is(sameInstance(table.get(1))));
+    }
+
+    @Test
+    public void is_unmodifiable() {
+        List<List<String>> table = PickleTableConverter.toTable(pickleTable);
+
+        assertThrows(UnsupportedOperationException.class, () -> table.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> table.get(0).set(0, "c"));
+    }
+
+    private static PickleCell cell(String value) {
+        return new PickleCell(new PickleLocation(1, 1), value);
+    }
+}
@@ -14,12 +14,14 @@ import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
 import static org.hamcrest.core.IsNull.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class StepExpressionFactoryTest {
 
@@ -71,6 +73,38 @@ public class StepExpressionFactoryTest {
         assertThat(dataTable.cells(), is(equalTo(table)));
     }
 
+    @Test
+    public void table_expression_resolves_type_once() {
+        AtomicInteger resolved = new AtomicInteger();
+        TypeResolver typeResolver = () -> {
+            resolved.incrementAndGet();
+            return DataTable.class;
+        };
+        StepExpression expression = new StepExpressionFactory(registry).createExpression("Given some stuff:", typeResolver);
+
+        expression.match("Given some stuff:", table).get(0).getValue();
+        expression.match("Given some stuff:", table).get(0).getValue();
+
+        assertThat(resolved.get(), is(equalTo(1)));
+    }
+
+    @Test
+    public void table_expression_resolves_type_again_after_failure() {
+        AtomicInteger resolved = new AtomicInteger();
+        TypeResolver typeResolver = () -> {
+            if (resolved.incrementAndGet() == 1) {
+                throw new IllegalStateException("not yet");
+            }
+            return DataTable.class;
+        };
+        StepExpression expression = new StepExpressionFactory(registry).createExpression("Given some stuff:", typeResolver);
+
+        assertThrows(IllegalStateException.class, () -> expression.match("Given some stuff:", table).get(0).getValue());
+        DataTable dataTable = (DataTable) expression.match("Given some stuff:", table).get(0).getValue();
+
+        assertThat(dataTable.cells(), is(equalTo(table)));
+    }
+
     @Test
     public void table_expression_with_type_creates_single_ingredients_from_table() {
 
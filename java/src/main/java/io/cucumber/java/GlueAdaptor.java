@@ -6,17 +6,24 @@ import io.cucumber.core.runtime.Invoker;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 
 final class GlueAdaptor {
 
     private final Lookup lookup;
     private final Glue glue;
+    private final List<JavaParameterTypeDefinition> cacheableParameterTypes = new ArrayList<>();
 
     GlueAdaptor(Lookup lookup, Glue glue) {
         this.lookup = lookup;
         this.glue = glue;
     }
 
+    List<JavaParameterTypeDefinition> getCacheableParameterTypes() {
+        return cacheableParameterTypes;
+    }
+
     void addDefinition(Method method, Annotation annotation) {
         if (annotation.annotationType().getAnnotation(StepDefinitionAnnotation.class) != null) {
             String expression = expression(annotation);
@@ -48,7 +55,12 @@ final class GlueAdaptor {
             String name = parameterType.name();
             boolean useForSnippets = parameterType.useForSnippets();
             boolean preferForRegexMatch = parameterType.preferForRegexMatch();
-            glue.addParameterType(new JavaParameterTypeDefinition(name, pattern, method, useForSnippets, preferForRegexMatch, lookup));
+            boolean cacheable = parameterType.cacheable();
+            JavaParameterTypeDefinition definition = new JavaParameterTypeDefinition(name, pattern, method, useForSnippets, preferForRegexMatch, cacheable, lookup);
+            if (cacheable) {
+                cacheableParameterTypes.add(definition);
+            }
+            glue.addParameterType(definition);
         } else if (annotation.annotationType().equals(DataTableType.class)) {
             glue.addDataTableType(new JavaDataTableTypeDefinition(method, lookup));
         } else if (annotation.annotationType().equals(DefaultParameterTransformer.class)) {
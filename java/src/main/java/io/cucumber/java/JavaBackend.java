@@ -7,18 +7,24 @@ import io.cucumber.core.backend.Lookup;
 import io.cucumber.core.io.ClassFinder;
 import io.cucumber.core.io.ResourceLoader;
 import io.cucumber.core.io.ResourceLoaderClassFinder;
+import io.cucumber.core.logging.Logger;
+import io.cucumber.core.logging.LoggerFactory;
 import io.cucumber.core.snippets.Snippet;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 
 import static java.lang.Thread.currentThread;
 
 final class JavaBackend implements Backend {
 
+    private static final Logger log = LoggerFactory.getLogger(JavaBackend.class);
+
     private final Lookup lookup;
     private final Container container;
     private final ClassFinder classFinder;
+    private final List<JavaParameterTypeDefinition> cacheableParameterTypes = new ArrayList<>();
 
     JavaBackend(Lookup lookup, Container container, ResourceLoader resourceLoader) {
         this(lookup, container, new ResourceLoaderClassFinder(resourceLoader, currentThread().getContextClassLoader()));
@@ -41,6 +47,7 @@ final class JavaBackend implements Backend {
                 });
             }
         }
+        cacheableParameterTypes.addAll(glueAdaptor.getCacheableParameterTypes());
     }
 
     @Override
@@ -50,7 +57,11 @@ final class JavaBackend implements Backend {
 
     @Override
     public void disposeWorld() {
-
+        // Backends are not told when the run ends. The counts are totals, so
+        // the last ones logged are those of the whole run on this thread.
+        for (JavaParameterTypeDefinition parameterType : cacheableParameterTypes) {
+            log.debug("Parameter type " + parameterType.parameterType().getName() + " " + parameterType.getCache());
+        }
     }
 
     @Override
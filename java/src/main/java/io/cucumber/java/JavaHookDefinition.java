@@ -3,7 +3,7 @@ package io.cucumber.java;
 import io.cucumber.core.api.Scenario;
 import io.cucumber.core.backend.HookDefinition;
 import io.cucumber.core.backend.Lookup;
-import io.cucumber.core.runtime.Invoker;
+import io.cucumber.core.runtime.MethodHandleInvoker;
 
 import java.lang.reflect.Method;
 
@@ -16,6 +16,7 @@ final class JavaHookDefinition extends AbstractGlueDefinition implements HookDef
     private final String tagExpression;
     private final int order;
     private final Lookup lookup;
+    private final MethodHandleInvoker invoker;
 
     JavaHookDefinition(Method method, String tagExpression, int order, long timeoutMillis, Lookup lookup) {
         super(requireValidMethod(method), lookup);
@@ -23,6 +24,7 @@ final class JavaHookDefinition extends AbstractGlueDefinition implements HookDef
         this.tagExpression = requireNonNull(tagExpression, "tag-expression may not be null");
         this.order = order;
         this.lookup = lookup;
+        this.invoker = new MethodHandleInvoker(method);
     }
 
     private static Method requireValidMethod(Method method) {
@@ -61,7 +63,7 @@ final class JavaHookDefinition extends AbstractGlueDefinition implements HookDef
             args = new Object[0];
         }
 
-        Invoker.invoke(lookup.getInstance(method.getDeclaringClass()), method, timeoutMillis, args);
+        invoker.invokeWithTimeout(lookup.getInstance(method.getDeclaringClass()), timeoutMillis, args);
     }
 
     @Override
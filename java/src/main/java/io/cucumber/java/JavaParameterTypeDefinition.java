@@ -14,14 +14,20 @@ import static java.util.Collections.singletonList;
 class JavaParameterTypeDefinition extends AbstractGlueDefinition implements ParameterTypeDefinition {
 
     private final ParameterType<Object> parameterType;
+    private final ParameterTypeCache<Object> cache;
 
     JavaParameterTypeDefinition(String name, String pattern, Method method, boolean useForSnippets, boolean preferForRegexpMatch, Lookup lookup) {
+        this(name, pattern, method, useForSnippets, preferForRegexpMatch, false, lookup);
+    }
+
+    JavaParameterTypeDefinition(String name, String pattern, Method method, boolean useForSnippets, boolean preferForRegexpMatch, boolean cacheable, Lookup lookup) {
         super(requireValidMethod(method), lookup);
+        this.cache = cacheable ? new ParameterTypeCache<>(this::execute) : null;
         this.parameterType = new ParameterType<>(
             name.isEmpty() ? method.getName() : name,
             singletonList(pattern),
             this.method.getReturnType(),
-            this::execute,
+            cacheable ? cache : this::execute,
             useForSnippets,
             preferForRegexpMatch
         );
@@ -72,6 +78,14 @@ class JavaParameterTypeDefinition extends AbstractGlueDefinition implements Para
         return parameterType;
     }
 
+    /**
+     * @return the cache of transformed values or null when the parameter
+     * type is not cacheable.
+     */
+    ParameterTypeCache<Object> getCache() {
+        return cache;
+    }
+
     private Object execute(String[] captureGroups) throws Throwable {
         Object[] args;
 
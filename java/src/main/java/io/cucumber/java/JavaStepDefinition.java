@@ -3,7 +3,7 @@ package io.cucumber.java;
 import io.cucumber.core.backend.Lookup;
 import io.cucumber.core.backend.ParameterInfo;
 import io.cucumber.core.backend.StepDefinition;
-import io.cucumber.core.runtime.Invoker;
+import io.cucumber.core.runtime.MethodHandleInvoker;
 
 import java.lang.reflect.Method;
 import java.util.List;
@@ -13,6 +13,7 @@ import static java.util.Objects.requireNonNull;
 final class JavaStepDefinition extends AbstractGlueDefinition implements StepDefinition {
     private final String expression;
     private final long timeoutMillis;
+    private final MethodHandleInvoker invoker;
 
     private final List<ParameterInfo> parameterInfos;
 
@@ -22,6 +23,7 @@ final class JavaStepDefinition extends AbstractGlueDefinition implements StepDef
                        Lookup lookup) {
         super(method, lookup);
         this.timeoutMillis = timeoutMillis;
+        this.invoker = new MethodHandleInvoker(method);
         this.parameterInfos = JavaParameterInfo.fromMethod(method);
         this.expression = requireNonNull(expression, "cucumber-expression may not be null");
     }
@@ -29,7 +31,7 @@ final class JavaStepDefinition extends AbstractGlueDefinition implements StepDef
     @SuppressWarnings("deprecation")
     @Override
     public void execute(Object[] args) throws Throwable {
-        Invoker.invoke(lookup.getInstance(method.getDeclaringClass()), method, timeoutMillis, args);
+        invoker.invokeWithTimeout(lookup.getInstance(method.getDeclaringClass()), timeoutMillis, args);
     }
 
     @Override
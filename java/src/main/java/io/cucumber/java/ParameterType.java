@@ -76,4 +76,19 @@ public @interface ParameterType {
      * @see io.cucumber.cucumberexpressions.ParameterType#useForSnippets()
      */
     boolean useForSnippets() default false;
+
+    /**
+     * Indicates whether or not the results of this parameter type may be
+     * reused. When true the result is memoized by the captured strings and
+     * the annotated method is invoked once for each distinct value, rather
+     * than for each step that uses it.
+     * <p>
+     * The least recently used results are discarded when more than
+     * 1024 distinct values are memoized. Results are shared between the
+     * scenarios run by one runner thread so they must be immutable. Each
+     * runner thread memoizes its own results.
+     *
+     * @return true if the results of this parameter type may be reused
+     */
+    boolean cacheable() default false;
 }
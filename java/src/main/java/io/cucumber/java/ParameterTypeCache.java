@@ -0,0 +1,89 @@
+package io.cucumber.java;
+
+import io.cucumber.cucumberexpressions.CaptureGroupTransformer;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Memoizes the results of a parameter type transformer by the captured
+ * strings. The least recently used results are evicted once the cache is full.
+ * <p>
+ * Failed transformations are not cached. Thread safe.
+ */
+final class ParameterTypeCache<T> implements CaptureGroupTransformer<T> {
+
+    static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final CaptureGroupTransformer<T> transformer;
+    private final Map<List<String>, T> results;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    ParameterTypeCache(CaptureGroupTransformer<T> transformer) {
+        this(transformer, DEFAULT_MAX_SIZE);
+    }
+
+    ParameterTypeCache(CaptureGroupTransformer<T> transformer, int maxSize) {
+        this.transformer = transformer;
+        this.results = new LinkedHashMap<List<String>, T>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, T> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    public T transform(String[] captureGroups) throws Throwable {
+        List<String> key = Arrays.asList(captureGroups.clone());
+        synchronized (results) {
+            if (results.containsKey(key)) {
+                hits.increment();
+                return results.get(key);
+            }
+        }
+        misses.increment();
+        // Transform outside the lock. Concurrent misses for the same key
+        // both invoke the transformer, the last result is kept.
+        T result = transformer.transform(captureGroups);
+        synchronized (results) {
+            results.put(key, result);
+        }
+        return result;
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    int size() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ParameterTypeCache{" +
+            "size=" + size() +
+            ", hits=" + getHits() +
+            ", misses=" + getMisses() +
+            ", hitRate=" + String.format(Locale.ROOT, "%.2f", getHitRate()) +
+            '}';
+    }
+}
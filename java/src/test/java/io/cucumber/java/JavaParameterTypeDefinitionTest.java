@@ -15,6 +15,7 @@ import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class JavaParameterTypeDefinitionTest {
@@ -43,6 +44,23 @@ public class JavaParameterTypeDefinitionTest {
         return "convert_one_capture_group_to_string";
     }
 
+    @Test
+    public void can_define_cacheable_parameter_type_converters() throws NoSuchMethodException {
+        Method method = JavaParameterTypeDefinitionTest.class.getMethod("convert_one_capture_group_to_new_object", String.class);
+        JavaParameterTypeDefinition definition = new JavaParameterTypeDefinition("", "(.*)", method, false, false, true, lookup);
+        registry.defineParameterType(definition.parameterType());
+        Expression cucumberExpression = new ExpressionFactory(registry).createExpression("{convert_one_capture_group_to_new_object}");
+        Object first = cucumberExpression.match("test").get(0).getValue();
+        Object second = cucumberExpression.match("test").get(0).getValue();
+        assertThat(second, sameInstance(first));
+        assertThat(definition.getCache().getHits(), equalTo(1L));
+        assertThat(definition.getCache().getMisses(), equalTo(1L));
+    }
+
+    public Object convert_one_capture_group_to_new_object(String all) {
+        return new Object();
+    }
+
     @Test
     public void can_define_parameter_type_converters_with_two_capture_groups() throws NoSuchMethodException {
         Method method = JavaParameterTypeDefinitionTest.class.getMethod("convert_two_capture_group_to_string", String.class, String.class);
@@ -0,0 +1,93 @@
+package io.cucumber.java;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ParameterTypeCacheTest {
+
+    private final List<String> transformed = new ArrayList<>();
+
+    private Object transform(String[] captureGroups) {
+        String joined = String.join(",", captureGroups);
+        transformed.add(joined);
+        return new StringBuilder(joined);
+    }
+
+    @Test
+    public void transforms_each_distinct_value_once() throws Throwable {
+        ParameterTypeCache<Object> cache = new ParameterTypeCache<>(this::transform);
+
+        Object first = cache.transform(new String[]{"a", "b"});
+        Object second = cache.transform(new String[]{"a", "b"});
+        cache.transform(new String[]{"a", "c"});
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(transformed, contains("a,b", "a,c"));
+        assertThat(cache.getHits(), is(equalTo(1L)));
+        assertThat(cache.getMisses(), is(equalTo(2L)));
+        assertThat(cache.getHitRate(), is(equalTo(1 / 3d)));
+    }
+
+    @Test
+    public void evicts_least_recently_used_value() throws Throwable {
+        ParameterTypeCache<Object> cache = new ParameterTypeCache<>(this::transform, 2);
+
+        cache.transform(new String[]{"a"});
+        cache.transform(new String[]{"b"});
+        cache.transform(new String[]{"a"});
+        cache.transform(new String[]{"c"});
+        cache.transform(new String[]{"a"});
+        cache.transform(new String[]{"b"});
+
+        assertThat(cache.size(), is(equalTo(2)));
+        assertThat(transformed, contains("a", "b", "c", "b"));
+    }
+
+    @Test
+    public void does_not_cache_failures() {
+        IllegalStateException failure = new IllegalStateException();
+        ParameterTypeCache<Object> cache = new ParameterTypeCache<>(captureGroups -> {
+            transformed.add(captureGroups[0]);
+            throw failure;
+        });
+
+        assertThrows(IllegalStateException.class, () -> cache.transform(new String[]{"a"}));
+        assertThrows(IllegalStateException.class, () -> cache.transform(new String[]{"a"}));
+
+        assertThat(transformed, contains("a", "a"));
+        assertThat(cache.size(), is(equalTo(0)));
+    }
+
+    @Test
+    public void caches_null_values() throws Throwable {
+        ParameterTypeCache<Object> cache = new ParameterTypeCache<>(captureGroups -> {
+            transformed.add(String.valueOf(captureGroups[0]));
+            return null;
+        });
+
+        cache.transform(new String[]{null});
+        cache.transform(new String[]{null});
+
+        assertThat(transformed, contains("null"));
+        assertThat(cache.getHits(), is(equalTo(1L)));
+    }
+
+    @Test
+    public void describes_its_counts() throws Throwable {
+        ParameterTypeCache<Object> cache = new ParameterTypeCache<>(this::transform);
+
+        cache.transform(new String[]{"a"});
+        cache.transform(new String[]{"a"});
+
+        assertThat(cache.toString(), is(equalTo("ParameterTypeCache{size=1, hits=1, misses=1, hitRate=0.50}")));
+    }
+}
@@ -14,9 +14,11 @@ import io.cucumber.core.runtime.ScanningTypeRegistryConfigurerSupplier;
 import io.cucumber.core.runtime.ObjectFactorySupplier;
 import io.cucumber.core.runtime.ThreadLocalObjectFactorySupplier;
 import io.cucumber.core.eventbus.EventBus;
+import io.cucumber.core.runner.AttachmentStore;
 import io.cucumber.core.runtime.BackendServiceLoader;
 import io.cucumber.core.runtime.BackendSupplier;
 import io.cucumber.core.runtime.TimeServiceEventBus;
+import io.cucumber.core.io.CachingResourceLoader;
 import io.cucumber.core.io.ClassFinder;
 import io.cucumber.core.runtime.FeaturePathFeatureSupplier;
 import io.cucumber.core.filter.Filters;
@@ -40,7 +42,6 @@ import org.junit.runners.model.InitializationError;
 import org.junit.runners.model.RunnerScheduler;
 import org.junit.runners.model.Statement;
 
-import java.time.Clock;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -83,6 +84,7 @@ import static java.util.stream.Collectors.toList;
 public final class Cucumber extends ParentRunner<FeatureRunner> {
     private final List<FeatureRunner> children;
     private final EventBus bus;
+    private final AttachmentStore attachmentStore;
     private final List<CucumberFeature> features;
     private final Plugins plugins;
 
@@ -100,7 +102,8 @@ public final class Cucumber extends ParentRunner<FeatureRunner> {
 
         ClassLoader classLoader = clazz.getClassLoader();
         ResourceLoader resourceLoader = new MultiLoader(classLoader);
-        ClassFinder classFinder = new ResourceLoaderClassFinder(resourceLoader, classLoader);
+        ResourceLoader glueResourceLoader = new CachingResourceLoader(resourceLoader);
+        ClassFinder classFinder = new ResourceLoaderClassFinder(glueResourceLoader, classLoader);
 
         // Parse the options early to provide fast feedback about invalid options
         RuntimeOptions propertiesFileOptions = new CucumberPropertiesParser(resourceLoader)
@@ -145,13 +148,14 @@ public final class Cucumber extends ParentRunner<FeatureRunner> {
 
         // Create plugins after feature parsing to avoid the creation of empty files on lexer errors.
         this.plugins = new Plugins(new PluginFactory(), runtimeOptions);
-        this.bus = new TimeServiceEventBus(Clock.systemUTC());
+        this.bus = TimeServiceEventBus.system();
 
         ObjectFactoryServiceLoader objectFactoryServiceLoader = new ObjectFactoryServiceLoader(runtimeOptions);
         ObjectFactorySupplier objectFactorySupplier = new ThreadLocalObjectFactorySupplier(objectFactoryServiceLoader);
-        BackendSupplier backendSupplier = new BackendServiceLoader(resourceLoader, objectFactorySupplier);
+        BackendSupplier backendSupplier = new BackendServiceLoader(glueResourceLoader, objectFactorySupplier);
         TypeRegistryConfigurerSupplier typeRegistryConfigurerSupplier = new ScanningTypeRegistryConfigurerSupplier(classFinder, runtimeOptions);
         ThreadLocalRunnerSupplier runnerSupplier = new ThreadLocalRunnerSupplier(runtimeOptions, bus, backendSupplier, objectFactorySupplier, typeRegistryConfigurerSupplier);
+        this.attachmentStore = runnerSupplier.getAttachmentStore();
         Predicate<PickleEvent> filters = new Filters(runtimeOptions);
         this.children = features.stream()
                 .map(feature -> FeatureRunner.create(feature, filters, runnerSupplier, junitOptions))
@@ -199,8 +203,12 @@ public final class Cucumber extends ParentRunner<FeatureRunner> {
             for (CucumberFeature feature : features) {
                 bus.send(new TestSourceRead(bus.getInstant(), feature.getUri().toString(), feature.getSource()));
             }
-            runFeatures.evaluate();
-            bus.send(new TestRunFinished(bus.getInstant()));
+            try {
+                runFeatures.evaluate();
+                bus.send(new TestRunFinished(bus.getInstant()));
+            } finally {
+                attachmentStore.close();
+            }
         }
     }
 
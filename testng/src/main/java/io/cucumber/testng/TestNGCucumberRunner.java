@@ -10,6 +10,7 @@ import io.cucumber.core.exception.CucumberException;
 import io.cucumber.core.feature.CucumberFeature;
 import io.cucumber.core.feature.FeatureLoader;
 import io.cucumber.core.filter.Filters;
+import io.cucumber.core.io.CachingResourceLoader;
 import io.cucumber.core.io.ClassFinder;
 import io.cucumber.core.io.MultiLoader;
 import io.cucumber.core.io.ResourceLoader;
@@ -32,7 +33,6 @@ import io.cucumber.core.runtime.TimeServiceEventBus;
 import io.cucumber.core.runtime.TypeRegistryConfigurerSupplier;
 import org.apiguardian.api.API;
 
-import java.time.Clock;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -69,7 +69,8 @@ public final class TestNGCucumberRunner {
 
         ClassLoader classLoader = clazz.getClassLoader();
         ResourceLoader resourceLoader = new MultiLoader(classLoader);
-        ClassFinder classFinder = new ResourceLoaderClassFinder(resourceLoader, classLoader);
+        ResourceLoader glueResourceLoader = new CachingResourceLoader(resourceLoader);
+        ClassFinder classFinder = new ResourceLoaderClassFinder(glueResourceLoader, classLoader);
 
         // Parse the options early to provide fast feedback about invalid options
         RuntimeOptions propertiesFileOptions = new CucumberPropertiesParser(resourceLoader)
@@ -92,11 +93,11 @@ public final class TestNGCucumberRunner {
         FeatureLoader featureLoader = new FeatureLoader(resourceLoader);
         featureSupplier = new FeaturePathFeatureSupplier(featureLoader, runtimeOptions);
 
-        this.bus = new TimeServiceEventBus(Clock.systemUTC());
+        this.bus = TimeServiceEventBus.system();
         this.plugins = new Plugins(new PluginFactory(), runtimeOptions);
         ObjectFactoryServiceLoader objectFactoryServiceLoader = new ObjectFactoryServiceLoader(runtimeOptions);
         ObjectFactorySupplier objectFactorySupplier = new ThreadLocalObjectFactorySupplier(objectFactoryServiceLoader);
-        BackendServiceLoader backendSupplier = new BackendServiceLoader(resourceLoader, objectFactorySupplier);
+        BackendServiceLoader backendSupplier = new BackendServiceLoader(glueResourceLoader, objectFactorySupplier);
         this.filters = new Filters(runtimeOptions);
         TypeRegistryConfigurerSupplier typeRegistryConfigurerSupplier = new ScanningTypeRegistryConfigurerSupplier(classFinder, runtimeOptions);
         this.runnerSupplier = new ThreadLocalRunnerSupplier(runtimeOptions, bus, backendSupplier, objectFactorySupplier, typeRegistryConfigurerSupplier);
@@ -115,7 +116,11 @@ public final class TestNGCucumberRunner {
     }
 
     public void finish() {
-        bus.send(new TestRunFinished(bus.getInstant()));
+        try {
+            bus.send(new TestRunFinished(bus.getInstant()));
+        } finally {
+            runnerSupplier.getAttachmentStore().close();
+        }
     }
 
     /**